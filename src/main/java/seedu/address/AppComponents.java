@@ -0,0 +1,225 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptReport;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The config, storage, model and logic of the application, wired together from its command-line parameters.
+ * Nothing here depends on the JavaFX toolkit, so the same components back both the GUI and the headless app.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Loads the config, preferences and data named by {@code appParameters} and wires the components over them,
+     * running the script named by {@code appParameters}, if any, before returning.
+     */
+    public static AppComponents initialize(AppParameters appParameters) {
+        Config config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        InitialData initialData = readInitialData(storage);
+        Model model = new ModelManager(initialData.addressBook, userPrefs);
+
+        Logic logic = new LogicManager(model, storage, initialData.isSaved);
+        if (appParameters.getScriptPath() != null) {
+            runScript(logic, appParameters.getScriptPath());
+        }
+
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the user preferences of the model, logging rather than throwing if they cannot be saved.
+     */
+    public void saveUserPrefs() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Reads the initial data of the model from {@code storage}'s address book. The data from the sample address book
+     * is used instead if {@code storage}'s address book is not found, or an empty address book is used instead if
+     * errors occur when reading {@code storage}'s address book.
+     *
+     * @return the initial data, and whether it is the data of {@code storage}'s address book
+     */
+    private static InitialData readInitialData(Storage storage) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (addressBookOptional.isPresent()) {
+                return new InitialData(addressBookOptional.get(), true);
+            }
+            logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                    + " populated with a sample TAssistant.");
+            return new InitialData(SampleDataUtil.getSampleAddressBook(), false);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty TAssistant.");
+            return new InitialData(new AddressBook(), false);
+        }
+    }
+
+    /**
+     * Runs the script at {@code scriptPath}, logging the report of the run.
+     */
+    private static void runScript(Logic logic, Path scriptPath) {
+        try {
+            ScriptReport report = logic.runScript(scriptPath);
+            logger.info("Ran script " + scriptPath + ". " + report.getSummary());
+        } catch (CommandException e) {
+            logger.warning("Script " + scriptPath + " could not be run: " + e.getMessage());
+        }
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * The data the model starts with, and whether it is already saved in storage.
+     */
+    private static class InitialData {
+        private final ReadOnlyAddressBook addressBook;
+        private final boolean isSaved;
+
+        InitialData(ReadOnlyAddressBook addressBook, boolean isSaved) {
+            this.addressBook = addressBook;
+            this.isSaved = isSaved;
+        }
+    }
+}
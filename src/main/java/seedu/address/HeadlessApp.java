@@ -0,0 +1,128 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a user interface, reading commands a line at a time and writing the feedback to
+ * each, so that the data can be scripted from a shell on a machine without a display.
+ *
+ * Commands are read from standard input, or from the clients of a port on the loopback interface one client at a
+ * time when started with {@code --port=PORT}. A session ends at the end of its input or at an {@code exit} command.
+ * The JavaFX toolkit is never started; only the JavaFX collections that the model is built on are used.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String PORT_PARAMETER = "port";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a headless app that executes commands with {@code logic}.
+     */
+    public HeadlessApp(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Starts the headless app with the command-line arguments {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        logger.info("=========================[ Initializing headless TAssistant ]=======================");
+        AppComponents components = AppComponents.initialize(AppParameters.parse(args));
+        HeadlessApp app = new HeadlessApp(components.getLogic());
+
+        String port = AppParameters.getNamedParameters(args).get(PORT_PARAMETER);
+        try {
+            if (port == null) {
+                app.serve(System.in, System.out);
+            } else {
+                app.listen(Integer.parseInt(port));
+            }
+        } finally {
+            logger.info("========================= [ Stopping headless TAssistant ] =========================");
+            components.saveUserPrefs();
+        }
+    }
+
+    /**
+     * Serves the clients that connect to {@code port} on the loopback interface, one after another, until a client
+     * enters {@code exit}.
+     */
+    public void listen(int port) throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            logger.info("Listening for commands on port " + serverSocket.getLocalPort());
+            boolean isExit = false;
+            while (!isExit) {
+                try (Socket client = serverSocket.accept()) {
+                    logger.info("Serving client " + client.getRemoteSocketAddress());
+                    isExit = serve(client.getInputStream(), client.getOutputStream());
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code input}, one per line, and writes the feedback to each to
+     * {@code output}, until the end of {@code input} or an {@code exit} command.
+     *
+     * @return true if the session ended with an {@code exit} command.
+     */
+    public boolean serve(InputStream input, OutputStream output) throws IOException {
+        requireNonNull(input);
+        requireNonNull(output);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            CommandResult result = execute(line);
+            writer.println(result.isShowHelp() ? HelpCommand.HELP_MESSAGE : result.getFeedbackToUser());
+            writer.flush();
+            if (result.isExit()) {
+                return true;
+            }
+        }
+        writer.flush();
+        return false;
+    }
+
+    private CommandResult execute(String commandText) {
+        try {
+            return logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            logger.info("An error occurred while executing command: " + commandText);
+            return new CommandResult(e.getMessage());
+        } catch (RuntimeException e) {
+            // one bad command must not end the session, or the server for every later client
+            logger.warning("Unexpected error while executing command: " + commandText + "\n" + e);
+            return new CommandResult(e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing comma-separated values.
+ *
+ * A field may be enclosed in double quotes, in which case it may contain commas, and a double quote inside it is
+ * written as two double quotes. Fields cannot span lines when read, so that a file can be read one line at a time.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed by a double quote";
+    public static final String MESSAGE_MISPLACED_QUOTE = "A double quote may only begin or end a quoted field";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the fields of the line {@code line}, in order and without their enclosing quotes.
+     * Unquoted fields are returned as they are, including any spaces around them.
+     *
+     * @throws IllegalArgumentException if a quote in {@code line} does not begin or end a quoted field.
+     */
+    public static List<String> splitLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalArgumentException(MESSAGE_MISPLACED_QUOTE);
+                }
+            } else {
+                int end = i;
+                while (end < line.length() && line.charAt(end) != SEPARATOR) {
+                    if (line.charAt(end) == QUOTE) {
+                        throw new IllegalArgumentException(MESSAGE_MISPLACED_QUOTE);
+                    }
+                    end++;
+                }
+                field.append(line, i, end);
+                i = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Writes {@code field} to {@code out} as a field of a row whose fields are separated by {@code separator},
+     * enclosing it in double quotes only if it contains the separator, a double quote or a line break.
+     */
+    public static void appendField(Appendable out, String field, char separator) throws IOException {
+        requireNonNull(out);
+        requireNonNull(field);
+        if (!needsQuotes(field, separator)) {
+            out.append(field);
+            return;
+        }
+
+        out.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE);
+            }
+            out.append(c);
+        }
+        out.append(QUOTE);
+    }
+
+    private static boolean needsQuotes(String field, char separator) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == separator || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends the quoted field starting at {@code start}, just after its opening quote, to {@code field}, and
+     * returns the position just after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A check of whether a string has the form required of a field, prepared once and shared by every validation of the
+ * field. Unlike {@code String#matches}, which compiles its regex on every call, a validator compiles its regex when
+ * it is created, and forms simple enough to be described character by character are checked by a scan of the string
+ * that does not allocate at all.
+ *
+ * Validators are immutable and safe to share between threads.
+ */
+public final class Validator {
+
+    private final Predicate<String> check;
+
+    private Validator(Predicate<String> check) {
+        this.check = check;
+    }
+
+    /**
+     * Returns a validator accepting the strings that {@code regex} matches in full.
+     */
+    public static Validator ofRegex(String regex) {
+        requireNonNull(regex);
+        Pattern pattern = Pattern.compile(regex);
+        return new Validator(test -> pattern.matcher(test).matches());
+    }
+
+    /**
+     * Returns a validator accepting the strings of at least {@code minLength} characters whose first character is
+     * accepted by {@code firstCharacter} and whose other characters are accepted by {@code otherCharacters}.
+     */
+    public static Validator ofCharacters(int minLength, IntPredicate firstCharacter, IntPredicate otherCharacters) {
+        requireAllNonNull(firstCharacter, otherCharacters);
+        checkArgument(minLength > 0, "Minimum length must be positive");
+        return new Validator(test -> {
+            if (test.length() < minLength || !firstCharacter.test(test.charAt(0))) {
+                return false;
+            }
+            for (int i = 1; i < test.length(); i++) {
+                if (!otherCharacters.test(test.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Returns a validator accepting the strings of at least {@code minLength} characters that are all accepted by
+     * {@code characters}.
+     */
+    public static Validator ofCharacters(int minLength, IntPredicate characters) {
+        return ofCharacters(minLength, characters, characters);
+    }
+
+    /**
+     * Returns true if {@code test} has the form this validator accepts.
+     */
+    public boolean isValid(String test) {
+        requireNonNull(test);
+        return check.test(test);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d} in a regex.
+     */
+    public static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} in a regex.
+     */
+    public static boolean isAlphanumeric(int c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -26,6 +26,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs the commands in a script file, one per line, and returns the report of the run.
+     * Commands that fail are recorded in the report without stopping the script, and the data is saved once the
+     * script has run rather than after every command.
+     * @param scriptPath The path of the script file.
+     * @return the report of the run.
+     * @throws CommandException If the script could not be read or the data could not be saved.
+     */
+    ScriptReport runScript(Path scriptPath) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
@@ -10,6 +12,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -30,19 +33,38 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** The number of commands of a script run between saves of its progress. */
+    public static final int SCRIPT_CHECKPOINT_INTERVAL = 500;
+
+    /** A saved version no model has, as model versions start from zero. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long savedVersion;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, where the address book of
+     * {@code model} is the one saved in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     *
+     * @param isModelSaved false if the address book of {@code model} is not yet saved in {@code storage}, such as
+     *     sample data used in place of a missing data file, so that it is saved after the first command
+     */
+    public LogicManager(Model model, Storage storage, boolean isModelSaved) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedVersion = isModelSaved ? model.getVersion() : UNSAVED_VERSION;
     }
 
     @Override
@@ -52,16 +74,47 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        saveAddressBook();
+
+        return commandResult;
+    }
+
+    @Override
+    public ScriptReport runScript(Path scriptPath) throws CommandException {
+        logger.info("----------------[SCRIPT][" + scriptPath + "]");
+
+        ScriptRunner runner = new ScriptRunner(addressBookParser, model);
+        runner.setCheckpoint(SCRIPT_CHECKPOINT_INTERVAL, this::saveAddressBook);
+        ScriptReport report;
+        try (BufferedReader script = Files.newBufferedReader(scriptPath)) {
+            report = runner.run(script);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(RunCommand.MESSAGE_READ_ERROR, scriptPath, ioe.getMessage()), ioe);
+        }
+        saveAddressBook();
+
+        return report;
+    }
+
+    /**
+     * Saves the address book, unless it is unchanged since it was last saved or loaded from storage. Read-only
+     * commands such as {@code list} and {@code find}, and commands that fail before changing anything, then cost no
+     * file writes.
+     */
+    private void saveAddressBook() throws CommandException {
+        long version = model.getVersion();
+        if (version == savedVersion) {
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
+            savedVersion = version;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -14,8 +14,16 @@ import seedu.address.model.person.Person;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_PERSONS_EDITED = "Edited %1$d persons";
+    /** Describes the parameter of commands that act on a selection of persons, for their usage messages. */
+    public static final String PERSON_SELECTION_PARAMETER = "PERSONS (an INDEX (must be a positive integer), "
+            + "a STUDENT_NUMBER, a range of indexes such as 1-30, a comma-separated list of these, "
+            + "or all for every person shown)";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
+    public static final String MESSAGE_UNKNOWN_STUDENT_NUMBER = "No person has the student number %1$s";
+    public static final String MESSAGE_AMBIGUOUS_STUDENT_NUMBER =
+            "More than one person has the student number %1$s, refer to the person by index instead";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
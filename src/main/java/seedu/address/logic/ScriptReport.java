@@ -0,0 +1,95 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The outcome of running a script: how many of its commands were run, and why each failing command failed.
+ */
+public class ScriptReport {
+
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands: %2$d succeeded, %3$d failed";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: %2$s";
+
+    private final List<String> failures = new ArrayList<>();
+    private int commandCount = 0;
+
+    /**
+     * Records that the command on a line of the script succeeded.
+     */
+    void addSuccess() {
+        commandCount++;
+    }
+
+    /**
+     * Records that the command on line {@code lineNumber} of the script failed with {@code message}.
+     */
+    void addFailure(int lineNumber, String message) {
+        commandCount++;
+        failures.add(String.format(MESSAGE_LINE_FAILURE, lineNumber, message));
+    }
+
+    /**
+     * Returns the number of commands run, successfully or not.
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the number of commands that succeeded.
+     */
+    public int getSuccessCount() {
+        return commandCount - failures.size();
+    }
+
+    /**
+     * Returns the failures of the script in line order, each naming its line.
+     */
+    public List<String> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Returns the counts of the script followed by its failures, one per line.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(
+                String.format(MESSAGE_SUMMARY, commandCount, getSuccessCount(), failures.size()));
+        for (String failure : failures) {
+            summary.append('\n').append(failure);
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScriptReport)) {
+            return false;
+        }
+
+        ScriptReport otherReport = (ScriptReport) other;
+        return commandCount == otherReport.commandCount && failures.equals(otherReport.failures);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * commandCount + failures.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandCount", commandCount)
+                .add("failures", failures)
+                .toString();
+    }
+}
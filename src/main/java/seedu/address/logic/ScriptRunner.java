@@ -0,0 +1,103 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands of a script against a model, one command per line.
+ *
+ * The script is read a line at a time, so it is never held in memory as a whole. Blank lines and lines starting with
+ * {@code #} are skipped. A command that cannot be parsed or executed, for whatever reason, is recorded in the report
+ * and the script carries on with the next line. Nothing is saved after each command: the caller saves once the
+ * script has run, and may ask for checkpoints to be saved every so many commands in between.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts";
+
+    private final AddressBookParser parser;
+    private final Model model;
+    private Checkpoint checkpoint;
+    private int checkpointInterval;
+
+    /**
+     * Creates a runner that parses commands with {@code parser} and executes them on {@code model}.
+     */
+    public ScriptRunner(AddressBookParser parser, Model model) {
+        requireAllNonNull(parser, model);
+        this.parser = parser;
+        this.model = model;
+    }
+
+    /**
+     * Saves {@code checkpoint} after every {@code interval} commands run.
+     */
+    public void setCheckpoint(int interval, Checkpoint checkpoint) {
+        requireNonNull(checkpoint);
+        checkArgument(interval > 0, "Checkpoint interval must be positive");
+        this.checkpoint = checkpoint;
+        this.checkpointInterval = interval;
+    }
+
+    /**
+     * Runs every command in {@code script} and returns the report of the run.
+     *
+     * @throws IOException if the script could not be read.
+     * @throws CommandException if a checkpoint could not be saved.
+     */
+    public ScriptReport run(BufferedReader script) throws IOException, CommandException {
+        requireNonNull(script);
+        ScriptReport report = new ScriptReport();
+        int lineNumber = 0;
+        for (String line = script.readLine(); line != null; line = script.readLine()) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                runCommand(commandText);
+                report.addSuccess();
+            } catch (CommandException | ParseException e) {
+                report.addFailure(lineNumber, e.getMessage());
+            } catch (RuntimeException e) {
+                // a value rejected by the model rather than by the parser only fails its own line
+                report.addFailure(lineNumber, e.getMessage() != null ? e.getMessage() : e.toString());
+            }
+
+            if (checkpoint != null && report.getCommandCount() % checkpointInterval == 0) {
+                checkpoint.save();
+            }
+        }
+        return report;
+    }
+
+    private void runCommand(String commandText) throws CommandException, ParseException {
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_SCRIPT);
+        }
+        command.execute(model);
+    }
+
+    /**
+     * Saves the progress of a script part way through it.
+     */
+    @FunctionalInterface
+    public interface Checkpoint {
+        void save() throws CommandException;
+    }
+}
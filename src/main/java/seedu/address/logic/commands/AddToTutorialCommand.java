@@ -5,9 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -15,13 +13,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.module.Module;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
-import seedu.address.model.person.StudentNumber;
-import seedu.address.model.person.Telegram;
-import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
 
 /**
@@ -32,17 +24,19 @@ public class AddToTutorialCommand extends Command {
     public static final String COMMAND_WORD = "addToTutorial";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a user to a given tutorial "
-            + "Parameters:"
-            + "INDEX (must be a positive integer)"
+            + "Parameters: "
+            + Messages.PERSON_SELECTION_PARAMETER + " "
             + "[" + PREFIX_MODULE + "MODULE_NAME]"
             + "[" + PREFIX_TUTORIAL_NAME + "TUTORIAL_NAME]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_MODULE + "CS2103T "
+            + PREFIX_TUTORIAL_NAME + "T11, " + COMMAND_WORD + " all "
+            + PREFIX_MODULE + "CS2103T "
             + PREFIX_TUTORIAL_NAME + "T11 ";
 
     public static final String MESSAGE_SUCCESS = "Edited Person: %1$s";
 
-    private final Index index;
+    private final PersonSelection selection;
 
     private final Tutorial tutorialToAddTo;
 
@@ -51,37 +45,52 @@ public class AddToTutorialCommand extends Command {
      * @param tutorialToAddTo the target tutorial to add the person
      */
     public AddToTutorialCommand(Index index, Tutorial tutorialToAddTo) {
-        requireNonNull(index);
+        this(PersonReference.of(index), tutorialToAddTo);
+    }
+
+    /**
+     * @param reference to the person, by index in the filtered person list or by student number
+     * @param tutorialToAddTo the target tutorial to add the person
+     */
+    public AddToTutorialCommand(PersonReference reference, Tutorial tutorialToAddTo) {
+        this(PersonSelection.of(reference), tutorialToAddTo);
+    }
+
+    /**
+     * @param selection of the persons, by index in the filtered person list, range, student number or all
+     * @param tutorialToAddTo the target tutorial to add the persons
+     */
+    public AddToTutorialCommand(PersonSelection selection, Tutorial tutorialToAddTo) {
+        requireNonNull(selection);
         requireNonNull(tutorialToAddTo);
-        this.index = index;
+        this.selection = selection;
         this.tutorialToAddTo = tutorialToAddTo;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> personsToEdit = selection.resolve(model);
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Tutorial realTutorial;
+        Tutorial realTutorial = model.findTutorial(tutorialToAddTo)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TUTORIAL));
 
+        Person editedPerson = null;
+        model.beginBatch();
         try {
-            realTutorial = (Tutorial) model.getTutorialList().stream().filter(
-                    tut -> tut.equals(tutorialToAddTo)
-            ).toArray()[0];
+            for (Person personToEdit : personsToEdit) {
+                editedPerson = createEditedPerson(personToEdit, realTutorial);
+                model.setPerson(personToEdit, editedPerson);
+            }
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         } catch (RuntimeException e) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TUTORIAL);
+            model.abortBatch();
+            throw e;
         }
-
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        Person editedPerson = createEditedPerson(personToEdit, realTutorial);
-
-        model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(editedPerson)));
+        model.commitBatch();
+        return new CommandResult(personsToEdit.size() == 1
+                ? String.format(MESSAGE_SUCCESS, Messages.format(editedPerson))
+                : String.format(Messages.MESSAGE_PERSONS_EDITED, personsToEdit.size()));
     }
 
     /**
@@ -92,19 +101,10 @@ public class AddToTutorialCommand extends Command {
         assert personToEdit != null;
         assert realTutorial != null;
 
-        Name updatedName = personToEdit.getName();
-        Phone updatedPhone = personToEdit.getPhone();
-        Email updatedEmail = personToEdit.getEmail();
-        Set<Tag> updatedTags = personToEdit.getTags();
-        Set<Module> updatedModules = new HashSet<>(personToEdit.getModules());
-        updatedModules.add(new Module(tutorialToAddTo.getModuleCode()));
-        Set<Tutorial> updatedTutorials = new HashSet<>(personToEdit.getTutorials());
-        updatedTutorials.add(realTutorial);
-        StudentNumber updatedStudentNumber = personToEdit.getStudentNumber();
-        Telegram updatedTelegram = personToEdit.getTelegram();
-
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedTags, updatedModules,
-                updatedTutorials, updatedStudentNumber, updatedTelegram);
+        return new Person.Builder(personToEdit)
+                .addModule(Module.of(tutorialToAddTo.getModuleCode()))
+                .addTutorial(realTutorial)
+                .build();
     }
 
     @Override
@@ -121,13 +121,13 @@ public class AddToTutorialCommand extends Command {
         AddToTutorialCommand otherCommand = (AddToTutorialCommand) other;
 
         return this.tutorialToAddTo.equals(otherCommand.tutorialToAddTo)
-                && this.index.equals(otherCommand.index);
+                && this.selection.equals(otherCommand.selection);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("selection", selection)
                 .add("tutorialName", tutorialToAddTo)
                 .toString();
     }
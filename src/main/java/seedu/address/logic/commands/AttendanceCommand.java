@@ -4,23 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.module.Module;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
 import seedu.address.model.person.StudentNumber;
-import seedu.address.model.person.Telegram;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tutorial.Tutorial;
 
 /**
  * Takes attendance from the person.
@@ -28,46 +22,79 @@ import seedu.address.model.tutorial.Tutorial;
 public class AttendanceCommand extends Command {
     public static final String COMMAND_WORD = "attn";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Takes attendance for the indicated person. "
-            + "Parameters: INDEX (must be a positive integer) "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Takes attendance for the indicated persons. "
+            + "Parameters: " + Messages.PERSON_SELECTION_PARAMETER + " "
             + PREFIX_ATTENDANCE + "LESSON_NUMBER\n"
-            + "Example: " + COMMAND_WORD + " 2 ln/S1";
+            + "Example: " + COMMAND_WORD + " 2 ln/S1, " + COMMAND_WORD + " 1-30 ln/S3";
 
     public static final String MESSAGE_SUCCESS = "Attendance successfully taken.";
+    public static final String MESSAGE_SUCCESS_MULTIPLE = "Attendance successfully taken for %1$d persons.";
     public static final String MESSAGE_DUPLICATE_ATTENDANCE = "This attendance has already been taken!";
-    private final Index index;
+    public static final String MESSAGE_DUPLICATE_ATTENDANCE_OF = "This attendance has already been taken for %1$s!";
+    public static final String MESSAGE_SHARED_STUDENT_NUMBER =
+            "%1$s and %2$s share a student number, so attendance cannot be taken for both!";
+    private final PersonSelection selection;
     private final Tag toAdd;
 
     /**
      * @param index of the person in the filtered person list to add tag to
      */
     public AttendanceCommand(Index index, Tag toAdd) {
-        requireNonNull(index);
-        this.index = index;
+        this(PersonReference.of(index), toAdd);
+    }
+
+    /**
+     * @param reference to the person, by index in the filtered person list or by student number
+     */
+    public AttendanceCommand(PersonReference reference, Tag toAdd) {
+        this(PersonSelection.of(reference), toAdd);
+    }
+
+    /**
+     * @param selection of the persons, by index in the filtered person list, range, student number or all
+     */
+    public AttendanceCommand(PersonSelection selection, Tag toAdd) {
+        requireNonNull(selection);
+        this.selection = selection;
         this.toAdd = toAdd;
     }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToEdit = selection.resolve(model);
+
+        Map<StudentNumber, Person> selectedStudents = new HashMap<>();
+        for (Person personToEdit : personsToEdit) {
+            // Attendance is recorded by student number, so persons sharing one would share a single record.
+            Person sharingPerson = selectedStudents.putIfAbsent(personToEdit.getStudentNumber(), personToEdit);
+            if (sharingPerson != null) {
+                throw new CommandException(String.format(MESSAGE_SHARED_STUDENT_NUMBER,
+                        sharingPerson.getName(), personToEdit.getName()));
+            }
+            if (model.hasAttendance(personToEdit, toAdd)) {
+                throw new CommandException(personsToEdit.size() == 1
+                        ? MESSAGE_DUPLICATE_ATTENDANCE
+                        : String.format(MESSAGE_DUPLICATE_ATTENDANCE_OF, personToEdit.getName()));
+            }
         }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        // create special tag to put in attendance list
-        String studentNumber = personToEdit.getStudentNumber().toString();
-        Tag specialTag = new Tag(studentNumber + toAdd.tagName);
-
-        if (model.hasAttendanceTag(specialTag)) {
-            throw new CommandException(MESSAGE_DUPLICATE_ATTENDANCE);
+        model.beginBatch();
+        try {
+            for (Person personToEdit : personsToEdit) {
+                Person editedPerson = createEditedPerson(personToEdit);
+                model.setPerson(personToEdit, editedPerson);
+                model.markAttendance(editedPerson, toAdd);
+            }
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
-        Person editedPerson = createEditedPerson(personToEdit);
-
-        model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.addAttendanceTag(specialTag);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(editedPerson)));
+        model.commitBatch();
+        return new CommandResult(personsToEdit.size() == 1
+                ? MESSAGE_SUCCESS
+                : String.format(MESSAGE_SUCCESS_MULTIPLE, personsToEdit.size()));
     }
 
     /**
@@ -77,24 +104,7 @@ public class AttendanceCommand extends Command {
     private Person createEditedPerson(Person personToEdit) {
         assert personToEdit != null;
 
-        Name updatedName = personToEdit.getName();
-        Phone updatedPhone = personToEdit.getPhone();
-        Email updatedEmail = personToEdit.getEmail();
-
-        Set<Tag> updatedTags = new HashSet<>();
-        for (Tag tag : personToEdit.getTags()) {
-            updatedTags.add(tag);
-        }
-        updatedTags.add(toAdd);
-
-        Set<Module> updatedModules = new HashSet<>(personToEdit.getModules());
-        Set<Tutorial> updatedTutorials = personToEdit.getTutorials();
-        StudentNumber updatedStudentNumber = personToEdit.getStudentNumber();
-        Telegram updatedTelegram = personToEdit.getTelegram();
-
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedTags, updatedModules,
-                updatedTutorials, updatedStudentNumber, updatedTelegram);
-
+        return new Person.Builder(personToEdit).addTag(toAdd).build();
     }
 
     @Override
@@ -107,7 +117,7 @@ public class AttendanceCommand extends Command {
             return false;
         }
 
-        return this.index.equals(((AttendanceCommand) other).index)
+        return this.selection.equals(((AttendanceCommand) other).selection)
                 && this.toAdd.equals(((AttendanceCommand) other).toAdd);
     }
 }
@@ -17,7 +17,9 @@ public class ClearCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.setAddressBook(new AddressBook());
+        AddressBook emptyAddressBook = new AddressBook();
+        emptyAddressBook.setUniqueFields(model.getAddressBook().getUniqueFields());
+        model.setAddressBook(emptyAddressBook);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
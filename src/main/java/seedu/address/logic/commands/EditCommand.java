@@ -22,15 +22,14 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.module.Module;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.StudentNumber;
 import seedu.address.model.person.Telegram;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tutorial.Tutorial;
 
 /**
  * Edits the details of an existing person in the address book.
@@ -42,7 +41,8 @@ public class EditCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the person identified "
             + "by the index number used in the displayed person list. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Several persons can be edited at once, but then only their phone and tags.\n"
+            + "Parameters: " + Messages.PERSON_SELECTION_PARAMETER + " "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -51,13 +51,16 @@ public class EditCommand extends Command {
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
-            + PREFIX_EMAIL + "johndoe@example.com";
+            + PREFIX_EMAIL + "johndoe@example.com, " + COMMAND_WORD + " 1-5 "
+            + PREFIX_TAG + "exchange";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Person: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
+    public static final String MESSAGE_UNIQUE_FIELD_FOR_MULTIPLE =
+            "Only the phone and tags can be edited for several persons at once.";
 
-    private final Index index;
+    private final PersonSelection selection;
     private final EditPersonDescriptor editPersonDescriptor;
 
     /**
@@ -65,34 +68,76 @@ public class EditCommand extends Command {
      * @param editPersonDescriptor details to edit the person with
      */
     public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
-        requireNonNull(index);
+        this(PersonReference.of(index), editPersonDescriptor);
+    }
+
+    /**
+     * @param reference to the person, by index in the filtered person list or by student number
+     * @param editPersonDescriptor details to edit the person with
+     */
+    public EditCommand(PersonReference reference, EditPersonDescriptor editPersonDescriptor) {
+        this(PersonSelection.of(reference), editPersonDescriptor);
+    }
+
+    /**
+     * @param selection of the persons, by index in the filtered person list, range, student number or all
+     * @param editPersonDescriptor details to edit the persons with
+     */
+    public EditCommand(PersonSelection selection, EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(selection);
         requireNonNull(editPersonDescriptor);
 
-        this.index = index;
+        this.selection = selection;
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToEdit = selection.resolve(model);
+        if (personsToEdit.size() > 1) {
+            return editAll(model, personsToEdit);
         }
+        Person personToEdit = personsToEdit.get(0);
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        model.setPerson(personToEdit, editedPerson);
+        try {
+            model.setPerson(personToEdit, editedPerson);
+        } catch (DuplicateFieldException e) {
+            throw new CommandException(e.getMessage());
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
+    /**
+     * Edits each of {@code personsToEdit} in a single batch. Fields that must be unique among persons are rejected
+     * up front, as giving several persons the same value for them could never succeed.
+     */
+    private CommandResult editAll(Model model, List<Person> personsToEdit) throws CommandException {
+        if (editPersonDescriptor.isAnyUniqueFieldEdited()) {
+            throw new CommandException(MESSAGE_UNIQUE_FIELD_FOR_MULTIPLE);
+        }
+
+        model.beginBatch();
+        try {
+            for (Person personToEdit : personsToEdit) {
+                model.setPerson(personToEdit, createEditedPerson(personToEdit, editPersonDescriptor));
+            }
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        model.commitBatch();
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_EDITED, personsToEdit.size()));
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
@@ -102,18 +147,14 @@ public class EditCommand extends Command {
     private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
 
-        Name updatedName = editPersonDescriptor.getName().orElse(personToEdit.getName());
-        Phone updatedPhone = editPersonDescriptor.getPhone().orElse(personToEdit.getPhone());
-        Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
-        Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
-        Set<Module> updatedModules = personToEdit.getModules();
-        Set<Tutorial> updatedTutorials = personToEdit.getTutorials();
-        StudentNumber updatedStudentNumber = editPersonDescriptor.getStudentNumber()
-                .orElse(personToEdit.getStudentNumber());
-        Telegram updatedTelegram = editPersonDescriptor.getTelegram().orElse(personToEdit.getTelegram());
-
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedTags, updatedModules,
-                updatedTutorials, updatedStudentNumber, updatedTelegram);
+        Person.Builder builder = new Person.Builder(personToEdit);
+        editPersonDescriptor.getName().ifPresent(builder::withName);
+        editPersonDescriptor.getPhone().ifPresent(builder::withPhone);
+        editPersonDescriptor.getEmail().ifPresent(builder::withEmail);
+        editPersonDescriptor.getTags().ifPresent(builder::withTags);
+        editPersonDescriptor.getStudentNumber().ifPresent(builder::withStudentNumber);
+        editPersonDescriptor.getTelegram().ifPresent(builder::withTelegram);
+        return builder.build();
     }
 
     @Override
@@ -128,14 +169,14 @@ public class EditCommand extends Command {
         }
 
         EditCommand otherEditCommand = (EditCommand) other;
-        return index.equals(otherEditCommand.index)
+        return selection.equals(otherEditCommand.selection)
                 && editPersonDescriptor.equals(otherEditCommand.editPersonDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("selection", selection)
                 .add("editPersonDescriptor", editPersonDescriptor)
                 .toString();
     }
@@ -176,6 +217,13 @@ public class EditCommand extends Command {
             return CollectionUtil.isAnyNonNull(name, phone, email, tags, studentNumber, telegram);
         }
 
+        /**
+         * Returns true if a field that identifies a person, or must be unique among persons, is edited.
+         */
+        public boolean isAnyUniqueFieldEdited() {
+            return CollectionUtil.isAnyNonNull(name, email, studentNumber, telegram);
+        }
+
         public void setName(Name name) {
             this.name = name;
         }
@@ -0,0 +1,214 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchTerm;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Writes the persons in the displayed list, or in a whole module or tutorial, to a CSV or TSV file.
+ *
+ * Rows are written one at a time through a buffer to the file channel, so the export never holds more than one row
+ * in memory however many persons are exported.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the persons in the displayed list to a CSV or TSV file, or those in the module or tutorial "
+            + "given.\n"
+            + "The format is TSV for files ending in .tsv and CSV otherwise, unless given.\n"
+            + "Parameters: FILE [csv|tsv] "
+            + "[" + PREFIX_MODULE + "MODULE_NAME "
+            + "[" + PREFIX_TUTORIAL_NAME + "TUTORIAL_NAME]]\n"
+            + "Example: " + COMMAND_WORD + " exports/T11.tsv "
+            + PREFIX_MODULE + "CS2103T "
+            + PREFIX_TUTORIAL_NAME + "T11";
+
+    public static final List<String> COLUMNS = List.of("name", "phone", "email", "student number", "telegram",
+            "modules", "tutorials", "attendance");
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not export to %1$s: %2$s";
+
+    /** The separator between the values of a column that holds several. */
+    public static final String VALUE_SEPARATOR = "; ";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The formats an export can be written in.
+     */
+    public enum Format {
+        CSV(','),
+        TSV('\t');
+
+        private final char separator;
+
+        Format(char separator) {
+            this.separator = separator;
+        }
+
+        /**
+         * Returns the format of a file named {@code fileName}: TSV if it ends in {@code .tsv}, CSV otherwise.
+         */
+        public static Format ofFileName(String fileName) {
+            return fileName.toLowerCase().endsWith(".tsv") ? TSV : CSV;
+        }
+    }
+
+    private final Path filePath;
+    private final Format format;
+    private final Module module;
+    private final Tutorial tutorial;
+
+    /**
+     * Creates an ExportCommand to write the persons in the displayed list to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, Format format) {
+        this(filePath, format, null, null);
+    }
+
+    /**
+     * Creates an ExportCommand to write the persons in {@code module}, or only those in {@code tutorial} if it is
+     * not null, to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, Format format, Module module, Tutorial tutorial) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        assert module != null || tutorial == null : "a tutorial is only exported with its module";
+        this.filePath = filePath;
+        this.format = format;
+        this.module = module;
+        this.tutorial = tutorial;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> persons;
+        Predicate<Person> selected;
+        if (module == null) {
+            persons = model.getFilteredPersonList();
+            selected = Model.PREDICATE_SHOW_ALL_PERSONS;
+        } else {
+            persons = model.getAddressBook().getPersonList();
+            selected = model.getSearchPredicate(getSelection(model));
+        }
+
+        int count = 0;
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (Writer writer = openWriter()) {
+                writeRow(writer, COLUMNS);
+                for (Person person : persons) {
+                    if (selected.test(person)) {
+                        writeRow(writer, toRow(model, person));
+                        count++;
+                    }
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, filePath));
+    }
+
+    /**
+     * Returns the search term selecting the persons of the module or tutorial to export.
+     */
+    private SearchTerm getSelection(Model model) throws CommandException {
+        if (!model.hasModule(module)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_MODULE);
+        }
+        if (tutorial == null) {
+            return SearchTerm.module(module);
+        }
+        Tutorial storedTutorial = model.findTutorial(tutorial)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TUTORIAL));
+        return SearchTerm.tutorial(storedTutorial);
+    }
+
+    private Writer openWriter() throws IOException {
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static List<String> toRow(Model model, Person person) {
+        return List.of(
+                person.getName().fullName,
+                person.getPhone().value,
+                person.getEmail().value,
+                person.getStudentNumber().value,
+                person.getTelegram() == null ? "" : person.getTelegram().value,
+                person.getModules().stream().map(Module::getModuleCode)
+                        .collect(Collectors.joining(VALUE_SEPARATOR)),
+                person.getTutorials().stream().map(tutorial -> tutorial.getModuleCode() + " " + tutorial.getTutName())
+                        .collect(Collectors.joining(VALUE_SEPARATOR)),
+                String.join(VALUE_SEPARATOR, model.getAttendedLessons(person)));
+    }
+
+    private void writeRow(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(format.separator);
+            }
+            CsvUtil.appendField(writer, fields.get(i), format.separator);
+        }
+        writer.write(System.lineSeparator());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && Objects.equals(module, otherExportCommand.module)
+                && Objects.equals(tutorial, otherExportCommand.tutorial);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("module", module)
+                .add("tutorial", tutorial)
+                .toString();
+    }
+}
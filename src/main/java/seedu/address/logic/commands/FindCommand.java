@@ -6,10 +6,13 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameKeyword;
+import seedu.address.model.person.NameMatches;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. Keywords may match as prefixes or with typos, in which case the persons
+ * whose names match most closely are listed first.
  */
 public class FindCommand extends Command {
 
@@ -17,8 +20,11 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "End a keyword with " + NameKeyword.PREFIX_MARKER + " to match names starting with it, or start it with "
+            + NameKeyword.FUZZY_MARKER + " to also match names that differ from it by a few letters.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " Ber* ~Bernce";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -29,7 +35,9 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // the matching persons are looked up in the name index rather than by testing every name
+        NameMatches matches = model.getNameMatches(predicate.getNameKeywords());
+        model.updateFilteredPersonList(matches, matches.byDistance());
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -12,6 +12,9 @@ public class HelpCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions.\n"
             + "Example: " + COMMAND_WORD;
 
+    public static final String USERGUIDE_URL = "https://ay2324s1-cs2103t-f12-3.github.io/tp/UserGuide.html";
+    public static final String HELP_MESSAGE = "Refer to the user guide: " + USERGUIDE_URL;
+
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
 
     @Override
@@ -0,0 +1,257 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Adds the persons in a CSV roster to the address book.
+ *
+ * The roster is read in chunks of {@value #CHUNK_SIZE} rows, so that only one chunk is held in memory at a time.
+ * The rows of a chunk are parsed and validated in parallel, and the valid persons are then added in file order in a
+ * single batch, so that the person list changes once for the whole roster. Rows that cannot be imported are written
+ * to a report next to the roster instead of stopping the import. If the roster cannot be read to its end, the batch
+ * is aborted and none of its persons are imported.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String REPORT_SUFFIX = ".errors.txt";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the persons in a CSV file, one person per row, and saves the data once at the end.\n"
+            + "Columns: " + String.join(",", PersonCsvParser.COLUMNS) + ", of which the first three are required. "
+            + "A first row naming the columns is skipped.\n"
+            + "Rows that cannot be imported are listed in FILE" + REPORT_SUFFIX + ".\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " rosters/CS2103T.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_FAILURES = "%1$d rows could not be imported, see %2$s";
+    public static final String MESSAGE_ROW_FAILURE = "Line %1$d: %2$s";
+    public static final String MESSAGE_READ_ERROR = "Could not import %1$s: %2$s";
+
+    static final int CHUNK_SIZE = 2048;
+
+    private static final PersonCsvParser PARSER = new PersonCsvParser();
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the persons in the roster at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the report of the rows of {@code filePath} that could not be imported.
+     */
+    public static Path getReportPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + REPORT_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path reportPath = getReportPath(filePath);
+        int importedCount = 0;
+        int failedCount;
+
+        model.beginBatch();
+        try (BufferedReader roster = Files.newBufferedReader(filePath);
+                FailureReport report = new FailureReport(reportPath)) {
+            int firstLineNumber = 1;
+            for (List<String> chunk = readChunk(roster); !chunk.isEmpty(); chunk = readChunk(roster)) {
+                for (Row row : parseChunk(chunk, firstLineNumber)) {
+                    Optional<String> failure = row.failure != null ? Optional.of(row.failure) : addPerson(model, row);
+                    if (failure.isPresent()) {
+                        report.add(row.lineNumber, failure.get());
+                    } else if (row.person != null) {
+                        importedCount++;
+                    }
+                }
+                firstLineNumber += chunk.size();
+            }
+            failedCount = report.getCount();
+        } catch (IOException ioe) {
+            model.abortBatch();
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()), ioe);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        model.commitBatch();
+
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        String feedback = String.format(MESSAGE_SUCCESS, importedCount, filePath);
+        if (failedCount > 0) {
+            feedback += "\n" + String.format(MESSAGE_FAILURES, failedCount, reportPath);
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Returns the next {@value #CHUNK_SIZE} lines of {@code roster}, or fewer at its end.
+     */
+    private static List<String> readChunk(BufferedReader roster) throws IOException {
+        List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        String line;
+        while (chunk.size() < CHUNK_SIZE && (line = roster.readLine()) != null) {
+            chunk.add(line);
+        }
+        return chunk;
+    }
+
+    /**
+     * Parses the lines of {@code chunk} in parallel, returning the rows in file order.
+     */
+    private static List<Row> parseChunk(List<String> chunk, int firstLineNumber) {
+        return IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> parseRow(chunk.get(i), firstLineNumber + i))
+                .collect(Collectors.toList());
+    }
+
+    private static Row parseRow(String line, int lineNumber) {
+        if (line.isBlank() || (lineNumber == 1 && PARSER.isHeader(line))) {
+            return new Row(lineNumber, null, null);
+        }
+        try {
+            return new Row(lineNumber, PARSER.parse(line), null);
+        } catch (ParseException pe) {
+            return new Row(lineNumber, null, pe.getMessage());
+        }
+    }
+
+    /**
+     * Adds the person of {@code row}, if any, to {@code model}, with its tutorial replaced by the one stored in the
+     * address book. Returns why the person could not be added, if it could not.
+     */
+    private static Optional<String> addPerson(Model model, Row row) {
+        if (row.person == null) {
+            return Optional.empty();
+        }
+
+        Person.Builder person = new Person.Builder(row.person);
+        for (Module module : row.person.getModules()) {
+            if (!model.hasModule(module)) {
+                return Optional.of(Messages.MESSAGE_INVALID_MODULE);
+            }
+        }
+        for (Tutorial tutorial : row.person.getTutorials()) {
+            Optional<Tutorial> storedTutorial = model.findTutorial(tutorial);
+            if (storedTutorial.isEmpty()) {
+                return Optional.of(Messages.MESSAGE_INVALID_TUTORIAL);
+            }
+            person.removeTutorial(tutorial).addTutorial(storedTutorial.get());
+        }
+
+        Person personToAdd = person.build();
+        if (model.hasPerson(personToAdd)) {
+            return Optional.of(AddCommand.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            model.addPerson(personToAdd);
+        } catch (DuplicateFieldException e) {
+            return Optional.of(e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A parsed row of the roster: a person to add, a reason the row is invalid, or neither for a row to skip.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final Person person;
+        private final String failure;
+
+        Row(int lineNumber, Person person, String failure) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * The report of the rows that could not be imported. Any earlier report is removed when it is opened, and the
+     * report file is only created once there is a row to write to it.
+     */
+    private static class FailureReport implements Closeable {
+        private final Path reportPath;
+        private BufferedWriter writer;
+        private int count;
+
+        FailureReport(Path reportPath) throws IOException {
+            this.reportPath = reportPath;
+            Files.deleteIfExists(reportPath);
+        }
+
+        void add(int lineNumber, String failure) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(reportPath);
+            }
+            writer.write(String.format(MESSAGE_ROW_FAILURE, lineNumber, failure));
+            writer.newLine();
+            count++;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
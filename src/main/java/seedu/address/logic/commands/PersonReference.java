@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
+
+/**
+ * Refers to a person in a command, either by its index in the displayed person list or by its student number.
+ * A student number refers to the same person whatever the displayed list shows, and is looked up in constant time.
+ */
+public class PersonReference {
+
+    private final Index index;
+    private final StudentNumber studentNumber;
+
+    private PersonReference(Index index, StudentNumber studentNumber) {
+        this.index = index;
+        this.studentNumber = studentNumber;
+    }
+
+    /**
+     * Returns a reference to the person at {@code index} in the displayed person list.
+     */
+    public static PersonReference of(Index index) {
+        requireNonNull(index);
+        return new PersonReference(index, null);
+    }
+
+    /**
+     * Returns a reference to the person with {@code studentNumber}.
+     */
+    public static PersonReference of(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return new PersonReference(null, studentNumber);
+    }
+
+    /**
+     * Returns the person in {@code model} this refers to.
+     *
+     * @throws CommandException if the index is out of the displayed list, or if not exactly one person has the
+     *     student number.
+     */
+    public Person resolve(Model model) throws CommandException {
+        requireNonNull(model);
+        if (index != null) {
+            List<Person> lastShownList = model.getFilteredPersonList();
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            return lastShownList.get(index.getZeroBased());
+        }
+
+        List<Person> persons = model.getPersonsWith(studentNumber);
+        if (persons.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_STUDENT_NUMBER, studentNumber));
+        }
+        if (persons.size() > 1) {
+            throw new CommandException(String.format(Messages.MESSAGE_AMBIGUOUS_STUDENT_NUMBER, studentNumber));
+        }
+        return persons.get(0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonReference)) {
+            return false;
+        }
+
+        PersonReference otherReference = (PersonReference) other;
+        return Objects.equals(index, otherReference.index)
+                && Objects.equals(studentNumber, otherReference.studentNumber);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, studentNumber);
+    }
+
+    /**
+     * Returns the index or student number this refers by.
+     */
+    @Override
+    public String toString() {
+        return index != null ? index.toString() : studentNumber.toString();
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Selects the persons a command acts on: single persons referred to by index or student number, ranges of indexes
+ * in the displayed person list, or every person displayed.
+ * A person selected more than once is only selected once.
+ */
+public class PersonSelection {
+
+    public static final String ALL_KEYWORD = "all";
+    public static final String MESSAGE_NO_PERSONS_SELECTED = "No persons are selected";
+
+    private final List<Part> parts;
+
+    private PersonSelection(List<Part> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * Returns a selection of the single person {@code reference} refers to.
+     */
+    public static PersonSelection of(PersonReference reference) {
+        requireNonNull(reference);
+        return new PersonSelection(List.of(new Part(reference, null, null)));
+    }
+
+    /**
+     * Returns a selection of the persons from {@code first} to {@code last}, inclusive, in the displayed person list.
+     */
+    public static PersonSelection ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        checkArgument(first.getZeroBased() <= last.getZeroBased(), "A range must not end before it starts");
+        return new PersonSelection(List.of(new Part(null, first, last)));
+    }
+
+    /**
+     * Returns a selection of every person in the displayed person list.
+     */
+    public static PersonSelection ofAll() {
+        return new PersonSelection(Collections.emptyList());
+    }
+
+    /**
+     * Returns a selection of the persons selected by any of {@code selections}, in order.
+     */
+    public static PersonSelection union(List<PersonSelection> selections) {
+        requireNonNull(selections);
+        checkArgument(!selections.isEmpty(), "A union needs at least one selection");
+        List<Part> parts = new ArrayList<>();
+        for (PersonSelection selection : selections) {
+            if (selection.isAll()) {
+                return ofAll();
+            }
+            parts.addAll(selection.parts);
+        }
+        return new PersonSelection(Collections.unmodifiableList(parts));
+    }
+
+    /**
+     * Returns true if this selects every person in the displayed person list.
+     */
+    public boolean isAll() {
+        return parts.isEmpty();
+    }
+
+    /**
+     * Returns the persons in {@code model} this selects, in the order they were selected.
+     *
+     * @throws CommandException if an index is out of the displayed list, if not exactly one person has a student
+     *     number, or if no persons are selected.
+     */
+    public List<Person> resolve(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (isAll()) {
+            if (lastShownList.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_PERSONS_SELECTED);
+            }
+            return new ArrayList<>(lastShownList);
+        }
+
+        Set<Person> selected = new LinkedHashSet<>();
+        for (Part part : parts) {
+            if (part.reference != null) {
+                selected.add(part.reference.resolve(model));
+                continue;
+            }
+            if (part.last.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            selected.addAll(lastShownList.subList(part.first.getZeroBased(), part.last.getZeroBased() + 1));
+        }
+        return new ArrayList<>(selected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSelection)) {
+            return false;
+        }
+
+        PersonSelection otherSelection = (PersonSelection) other;
+        return parts.equals(otherSelection.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return parts.hashCode();
+    }
+
+    /**
+     * Returns the references, ranges or keyword this selects by, separated by commas.
+     */
+    @Override
+    public String toString() {
+        return isAll() ? ALL_KEYWORD : parts.stream().map(Part::toString).collect(Collectors.joining(","));
+    }
+
+    /**
+     * A single person, or a range of indexes in the displayed person list.
+     */
+    private static class Part {
+        private final PersonReference reference;
+        private final Index first;
+        private final Index last;
+
+        Part(PersonReference reference, Index first, Index last) {
+            this.reference = reference;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Part)) {
+                return false;
+            }
+
+            Part otherPart = (Part) other;
+            return Objects.equals(reference, otherPart.reference)
+                    && Objects.equals(first, otherPart.first)
+                    && Objects.equals(last, otherPart.last);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(reference, first, last);
+        }
+
+        @Override
+        public String toString() {
+            return reference != null ? reference.toString() : first.getOneBased() + "-" + last.getOneBased();
+        }
+    }
+}
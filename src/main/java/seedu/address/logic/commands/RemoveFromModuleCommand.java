@@ -4,10 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -17,14 +14,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.module.Module;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
-import seedu.address.model.person.StudentNumber;
-import seedu.address.model.person.Telegram;
-import seedu.address.model.tag.Tag;
-import seedu.address.model.tutorial.Tutorial;
 
 /**
  * Removes a person from a module.
@@ -34,14 +24,16 @@ public class RemoveFromModuleCommand extends Command {
     public static final String COMMAND_WORD = "removeFromModule";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes a user from a given module "
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: " + Messages.PERSON_SELECTION_PARAMETER + " "
             + "[" + PREFIX_MODULE + "MODULE]\n "
             + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_MODULE + "CS1000, " + COMMAND_WORD + " 1,3,5-7 "
             + PREFIX_MODULE + "CS1000 ";
 
     public static final String MESSAGE_SUCCESS = "Deleted person from module: %1$s";
     public static final String MESSAGE_PERSON_LACKS_MODULE = "User does not have the given module.";
-    private final Index index;
+    public static final String MESSAGE_NAMED_PERSON_LACKS_MODULE = "%1$s does not have the given module.";
+    private final PersonSelection selection;
     private final Module moduleToRemoveFrom;
     private final Logger logger = LogsCenter.getLogger(RemoveFromModuleCommand.class);
 
@@ -49,35 +41,61 @@ public class RemoveFromModuleCommand extends Command {
      * @param index of the person in the filtered person list to add tag to
      */
     public RemoveFromModuleCommand(Index index, Module moduleToRemoveFrom) {
-        requireNonNull(index);
+        this(PersonReference.of(index), moduleToRemoveFrom);
+    }
+
+    /**
+     * @param reference to the person, by index in the filtered person list or by student number
+     */
+    public RemoveFromModuleCommand(PersonReference reference, Module moduleToRemoveFrom) {
+        this(PersonSelection.of(reference), moduleToRemoveFrom);
+    }
+
+    /**
+     * @param selection of the persons, by index in the filtered person list, range, student number or all
+     */
+    public RemoveFromModuleCommand(PersonSelection selection, Module moduleToRemoveFrom) {
+        requireNonNull(selection);
         requireNonNull(moduleToRemoveFrom);
-        this.index = index;
+        this.selection = selection;
         this.moduleToRemoveFrom = moduleToRemoveFrom;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
+        List<Person> personsToEdit = selection.resolve(model);
 
         if (!model.hasModule(moduleToRemoveFrom)) {
             throw new CommandException(Messages.MESSAGE_INVALID_MODULE);
         }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        logger.info("Person with modules " + personToEdit.getModules() + " and tutorials "
-                + personToEdit.getTutorials() + " removing " + this.moduleToRemoveFrom);
-        if (!personHasModule(personToEdit, this.moduleToRemoveFrom)) {
-            throw new CommandException(MESSAGE_PERSON_LACKS_MODULE);
+        for (Person personToEdit : personsToEdit) {
+            logger.info("Person with modules " + personToEdit.getModules() + " and tutorials "
+                    + personToEdit.getTutorials() + " removing " + this.moduleToRemoveFrom);
+            if (!personHasModule(personToEdit, this.moduleToRemoveFrom)) {
+                throw new CommandException(personsToEdit.size() == 1
+                        ? MESSAGE_PERSON_LACKS_MODULE
+                        : String.format(MESSAGE_NAMED_PERSON_LACKS_MODULE, personToEdit.getName()));
+            }
+        }
+
+        Person editedPerson = null;
+        model.beginBatch();
+        try {
+            for (Person personToEdit : personsToEdit) {
+                editedPerson = createEditedPerson(personToEdit);
+                model.setPerson(personToEdit, editedPerson);
+            }
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
-        Person editedPerson = createEditedPerson(personToEdit);
-        model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(editedPerson)));
+        model.commitBatch();
+        return new CommandResult(personsToEdit.size() == 1
+                ? String.format(MESSAGE_SUCCESS, Messages.format(editedPerson))
+                : String.format(Messages.MESSAGE_PERSONS_EDITED, personsToEdit.size()));
     }
 
     /**
@@ -87,20 +105,7 @@ public class RemoveFromModuleCommand extends Command {
     private Person createEditedPerson(Person personToEdit) {
         assert personToEdit != null;
 
-        Name updatedName = personToEdit.getName();
-        Phone updatedPhone = personToEdit.getPhone();
-        Email updatedEmail = personToEdit.getEmail();
-        Set<Tag> updatedTags = personToEdit.getTags();
-        Set<Module> updatedModules = new HashSet<>(personToEdit.getModules());
-        updatedModules.remove(moduleToRemoveFrom);
-        Set<Tutorial> updatedTutorials = new HashSet<>(personToEdit.getTutorials());
-        updatedTutorials.removeIf(tutorial -> Objects.equals(tutorial.getModuleCode(),
-                moduleToRemoveFrom.getModuleCode()));
-        StudentNumber updatedStudentNumber = personToEdit.getStudentNumber();
-        Telegram updatedTelegram = personToEdit.getTelegram();
-
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedTags,
-                updatedModules, updatedTutorials, updatedStudentNumber, updatedTelegram);
+        return personToEdit.withoutModule(moduleToRemoveFrom);
     }
 
     /**
@@ -128,14 +133,14 @@ public class RemoveFromModuleCommand extends Command {
             return false;
         }
 
-        return this.index.equals(((RemoveFromModuleCommand) other).index)
+        return this.selection.equals(((RemoveFromModuleCommand) other).selection)
                 && this.moduleToRemoveFrom.equals(((RemoveFromModuleCommand) other).moduleToRemoveFrom);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("selection", selection)
                 .toString();
     }
 }
@@ -5,23 +5,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.module.Module;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
-import seedu.address.model.person.StudentNumber;
-import seedu.address.model.person.Telegram;
-import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
 
 /**
@@ -33,7 +22,7 @@ public class RemoveFromTutorialCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes a user from a given tutorial "
             + "Parameters:"
-            + "INDEX (must be a positive integer)"
+            + "INDEX (must be a positive integer) or STUDENT_NUMBER"
             + "[" + PREFIX_MODULE + "MODULE_NAME]"
             + "[" + PREFIX_TUTORIAL_NAME + "TUTORIAL_NAME]\n"
             + "Example: " + COMMAND_WORD + " 1 "
@@ -43,7 +32,7 @@ public class RemoveFromTutorialCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Edited Person: %1$s";
     public static final String MESSAGE_PERSON_LACKS_TUTORIAL = "User does not have the given tutorial.";
 
-    private final Index index;
+    private final PersonReference index;
 
     private final Tutorial tutorialToRemoveFrom;
 
@@ -51,6 +40,13 @@ public class RemoveFromTutorialCommand extends Command {
      * @param index of the person in the filtered person list to add tag to
      */
     public RemoveFromTutorialCommand(Index index, Tutorial tutorialToRemoveFrom) {
+        this(PersonReference.of(index), tutorialToRemoveFrom);
+    }
+
+    /**
+     * @param index reference to the person, by index in the filtered person list or by student number
+     */
+    public RemoveFromTutorialCommand(PersonReference index, Tutorial tutorialToRemoveFrom) {
         requireNonNull(index);
         requireNonNull(tutorialToRemoveFrom);
         this.index = index;
@@ -60,23 +56,11 @@ public class RemoveFromTutorialCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
+        Person personToEdit = index.resolve(model);
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Tutorial realTutorial;
-        try {
-            realTutorial = (Tutorial) model.getTutorialList().stream().filter(
-                    tut -> tut.equals(tutorialToRemoveFrom)
-
-            ).toArray()[0];
-        } catch (RuntimeException e) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TUTORIAL);
-        }
+        Tutorial realTutorial = model.findTutorial(tutorialToRemoveFrom)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TUTORIAL));
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
         if (!personHasTutorial(personToEdit, realTutorial)) {
             throw new CommandException(MESSAGE_PERSON_LACKS_TUTORIAL);
         }
@@ -95,18 +79,7 @@ public class RemoveFromTutorialCommand extends Command {
         assert personToEdit != null;
         assert realTutorial != null;
 
-        Name updatedName = personToEdit.getName();
-        Phone updatedPhone = personToEdit.getPhone();
-        Email updatedEmail = personToEdit.getEmail();
-        Set<Tag> updatedTags = personToEdit.getTags();
-        Set<Module> updatedModules = personToEdit.getModules();
-        Set<Tutorial> updatedTutorials = new HashSet<>(personToEdit.getTutorials());
-        updatedTutorials.remove(realTutorial);
-        StudentNumber updatedStudentNumber = personToEdit.getStudentNumber();
-        Telegram updatedTelegram = personToEdit.getTelegram();
-
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedTags,
-                updatedModules, updatedTutorials, updatedStudentNumber, updatedTelegram);
+        return new Person.Builder(personToEdit).removeTutorial(realTutorial).build();
     }
 
     /**
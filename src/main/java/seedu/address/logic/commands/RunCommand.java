@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.ScriptReport;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one command per line, and saves the data once at the end.\n"
+            + "Blank lines and lines starting with " + ScriptRunner.COMMENT_MARKER + " are skipped. "
+            + "A command that fails is reported with its line number and does not stop the script.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " scripts/week3.txt";
+
+    public static final String MESSAGE_READ_ERROR = "Could not read script %1$s: %2$s";
+
+    private final Path scriptPath;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ScriptRunner runner = new ScriptRunner(new AddressBookParser(), model);
+        try (BufferedReader script = Files.newBufferedReader(scriptPath)) {
+            ScriptReport report = runner.run(script);
+            return new CommandResult(report.getSummary());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptPath, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+}
@@ -1,17 +1,23 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.model.Model;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Name;
-import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchTerm;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
 
@@ -24,69 +30,50 @@ public class SearchCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds people with the given conditions "
             + "Parameters: CONDITION1, CONDITION2, ... \n"
-            + String.format("[%sNAME] OR [%sMODULE] OR [%sTUTORIAL]\n",
-            PREFIX_NAME, PREFIX_MODULE, PREFIX_TUTORIAL_NAME)
-            + "Example: " + COMMAND_WORD
-            + PREFIX_MODULE + "CS1000 ";
+            + String.format("[%sNAME] OR [%sMODULE] OR [%sTUTORIAL] OR [%sTAG] OR [%sPHONE] OR [%sEMAIL] "
+                    + "OR [%sTELEGRAM] OR [%sSTUDENT_NUMBER]\n",
+            PREFIX_NAME, PREFIX_MODULE, PREFIX_TUTORIAL_NAME, PREFIX_TAG, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_TELEGRAM, PREFIX_STUDENT_NUMBER)
+            + String.format("%s*DIGITS finds phone numbers ending with DIGITS, %s@DOMAIN finds emails in DOMAIN.\n",
+            PREFIX_PHONE, PREFIX_EMAIL)
+            + "Conditions can be combined with AND, OR, NOT and parentheses.\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_MODULE + "CS1000 AND NOT " + PREFIX_TUTORIAL_NAME + "T11 OR " + PREFIX_TAG + "probation";
 
     public static final String MESSAGE_SUCCESS = "Found the following people.";
     public static final String MESSAGE_INVALID_NUM_OF_MODULES = "Invalid number of modules given. Please give only 1.";
     public static final String MESSAGE_ERROR_TOO_MANY_NAMES = "Too many names given. Please give only 1.";
 
-    private final List<Name> personNameToSearch;
-    private final List<Module> modulesToSearch;
-    private final List<Tutorial> tutorialsToSearch;
-    private final List<Tag> tagsToSearch;
+    private final SearchQuery query;
 
     /**
-     * Creates an SearchByModuleCommand to add the specified {@code Person}
+     * Creates a SearchCommand to find the persons with all of the given names, modules, tutorials and tags.
+     * A search with no conditions finds nobody.
      */
     public SearchCommand(List<Name> personName, List<Module> module, List<Tutorial> tutorials, List<Tag> tags) {
-        personNameToSearch = personName;
-        modulesToSearch = module;
-        tutorialsToSearch = tutorials;
-        tagsToSearch = tags;
+        List<SearchTerm> terms = new ArrayList<>();
+        personName.forEach(name -> terms.add(SearchTerm.name(name)));
+        module.forEach(moduleToSearch -> terms.add(SearchTerm.module(moduleToSearch)));
+        tutorials.forEach(tutorial -> terms.add(SearchTerm.tutorial(tutorial)));
+        tags.forEach(tag -> terms.add(SearchTerm.tag(tag)));
+        query = terms.isEmpty() ? SearchQuery.or(terms) : SearchQuery.and(terms);
     }
 
-    private Predicate<Person> getPersonPredicateFromModule() {
-        if (personNameToSearch.isEmpty()
-                && modulesToSearch.isEmpty()
-                && tutorialsToSearch.isEmpty()
-                && tagsToSearch.isEmpty()) {
-            return (person -> false);
-        }
-
-        return (person -> personNameToSearch.stream()
-                .allMatch(name -> person.getName().equals(name))
-                && person.getModules().containsAll(modulesToSearch)
-                && hasAllTutorials(person)
-                && person.getTags().containsAll(tagsToSearch));
-    }
-
-    private boolean hasAllTutorials(Person person) {
-        for (Tutorial t : tutorialsToSearch) {
-            if (!hasTutorial(t, person)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private boolean hasTutorial(Tutorial t, Person p) {
-        for (Tutorial tut : p.getTutorials()) {
-            if (t.equals(tut)) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Creates a SearchCommand to find the persons matched by {@code query}.
+     */
+    public SearchCommand(SearchQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(getPersonPredicateFromModule());
+        model.updateFilteredPersonList(model.getSearchPredicate(query));
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -98,13 +85,7 @@ public class SearchCommand extends Command {
             return false;
         }
 
-        List<Name> otherPersonNameToSearch = ((SearchCommand) other).personNameToSearch;
-        List<Module> otherModulesToSearch = ((SearchCommand) other).modulesToSearch;
-        List<Tutorial> otherTutorialsToSearch = ((SearchCommand) other).tutorialsToSearch;
-        List<Tag> otherTagsToSearch = ((SearchCommand) other).tagsToSearch;
-        return this.personNameToSearch.equals(otherPersonNameToSearch)
-                && this.modulesToSearch.equals(otherModulesToSearch)
-                && this.tutorialsToSearch.equals(otherTutorialsToSearch)
-                && this.tagsToSearch.equals(otherTagsToSearch);
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return query.equals(otherSearchCommand.query);
     }
 }
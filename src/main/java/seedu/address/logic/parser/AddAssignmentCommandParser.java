@@ -13,6 +13,7 @@ import seedu.address.model.assignment.Title;
  * Parses input arguments and creates a new AddAssignmentCommand object
  */
 public class AddAssignmentCommandParser implements Parser<AddAssignmentCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_ASSIGNMENT);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddAssignmentCommand
@@ -21,8 +22,7 @@ public class AddAssignmentCommandParser implements Parser<AddAssignmentCommand>
      */
     public AddAssignmentCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_ASSIGNMENT);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         // check if "assgn/" prefix exists and additional erroneous inputs such as add ppm/CS2100
         if (!isPrefixPresent(argMultimap, PREFIX_ASSIGNMENT) || !argMultimap.getPreamble().isEmpty()) {
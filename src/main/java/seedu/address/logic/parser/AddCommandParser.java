@@ -28,6 +28,8 @@ import seedu.address.model.tutorial.Tutorial;
  * Parses input arguments and creates a new AddCommand object
  */
 public class AddCommandParser implements Parser<AddCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_TAG, PREFIX_STUDENT_NUMBER, PREFIX_TELEGRAM);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
@@ -35,9 +37,7 @@ public class AddCommandParser implements Parser<AddCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_TAG, PREFIX_STUDENT_NUMBER, PREFIX_TELEGRAM);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -54,7 +54,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         Set<Tutorial> tutorials = new HashSet<>();
         StudentNumber studentNumber;
         if (argMultimap.getValue(PREFIX_STUDENT_NUMBER).isEmpty()) {
-            studentNumber = new StudentNumber("PlaceholderStudentNumber");
+            studentNumber = new StudentNumber(StudentNumber.PLACEHOLDER);
         } else {
             studentNumber = ParserUtil.parseStudentNumber(
                     argMultimap.getValue(PREFIX_STUDENT_NUMBER).get());
@@ -62,7 +62,7 @@ public class AddCommandParser implements Parser<AddCommand> {
 
         Telegram telegram;
         if (argMultimap.getValue(PREFIX_TELEGRAM).isEmpty()) {
-            telegram = new Telegram("PlaceholderTelegramHandle");
+            telegram = new Telegram(Telegram.PLACEHOLDER);
         } else {
             telegram = ParserUtil.parseTelegram(argMultimap.getValue(PREFIX_TELEGRAM).get());
         }
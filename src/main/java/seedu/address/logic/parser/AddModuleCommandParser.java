@@ -12,6 +12,7 @@ import seedu.address.model.module.Module;
  * Parses input arguments and creates a new AddModuleCommand object
  */
 public class AddModuleCommandParser implements Parser<AddModuleCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MODULE);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddModuleCommand
@@ -20,8 +21,7 @@ public class AddModuleCommandParser implements Parser<AddModuleCommand> {
      */
     public AddModuleCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_MODULE);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         // check if "m/" prefix exists and additional erroneous inputs such as add ppm/CS2100
         if (!isPrefixPresent(argMultimap, PREFIX_MODULE) || !argMultimap.getPreamble().isEmpty()) {
@@ -7,8 +7,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddToTutorialCommand;
+import seedu.address.logic.commands.PersonSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.module.Module;
 import seedu.address.model.tutorial.Tutorial;
@@ -17,6 +17,7 @@ import seedu.address.model.tutorial.Tutorial;
  * Parses input arguments and creates a new AddToTutorial object
  */
 public class AddToTutorialCommandParser implements Parser<AddToTutorialCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MODULE, PREFIX_TUTORIAL_NAME);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddToTutorial
@@ -25,12 +26,11 @@ public class AddToTutorialCommandParser implements Parser<AddToTutorialCommand>
      */
     public AddToTutorialCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_TUTORIAL_NAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
-        Index index;
+        PersonSelection index;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            index = ParserUtil.parsePersonSelection(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddToTutorialCommand.MESSAGE_USAGE), pe);
@@ -45,7 +45,7 @@ public class AddToTutorialCommandParser implements Parser<AddToTutorialCommand>
         String tutorialName = ParserUtil.parseTutorialName(argMultimap.getValue(PREFIX_TUTORIAL_NAME).get());
 
 
-        Tutorial tutorial = new Tutorial(module, tutorialName);
+        Tutorial tutorial = Tutorial.of(module, tutorialName);
         return new AddToTutorialCommand(index, tutorial);
     }
 
@@ -18,6 +18,9 @@ import seedu.address.model.tutorial.Tutorial;
  * Parses input arguments and creates a new AddTutorialCommand object
  */
 public class AddTutorialCommandParser implements Parser<AddTutorialCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MODULE, PREFIX_TUTORIAL_NAME,
+            PREFIX_TUTORIAL_TIME);
+
     /* Methods */
     /**
      * Parses the given {@code String} of arguments in the context of the AddTutorialCommand
@@ -26,8 +29,7 @@ public class AddTutorialCommandParser implements Parser<AddTutorialCommand> {
      */
     public AddTutorialCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_TUTORIAL_NAME, PREFIX_TUTORIAL_TIME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_MODULE, PREFIX_TUTORIAL_NAME, PREFIX_TUTORIAL_TIME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -46,7 +48,7 @@ public class AddTutorialCommandParser implements Parser<AddTutorialCommand> {
                     AddTutorialCommand.MESSAGE_USAGE));
         }
 
-        Tutorial tutorial = new Tutorial(module, tutorialName, tutorialTime);
+        Tutorial tutorial = Tutorial.of(module, tutorialName, tutorialTime);
 
         return new AddTutorialCommand(tutorial);
     }
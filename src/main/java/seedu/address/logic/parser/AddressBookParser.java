@@ -1,11 +1,9 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddAssignmentCommand;
@@ -23,24 +21,83 @@ import seedu.address.logic.commands.DeleteModuleCommand;
 import seedu.address.logic.commands.DeleteTutorialCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RemoveFromModuleCommand;
 import seedu.address.logic.commands.RemoveFromTutorialCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ *
+ * The command word of the input selects the parser of the arguments from a {@code CommandRegistry}. By default this
+ * is a registry of all commands that is shared by every {@code AddressBookParser}, so each parser is created at most
+ * once. The parsers of the commands used to set up a semester are only created the first time they are used.
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandRegistry DEFAULT_REGISTRY = createDefaultRegistry();
+
+    private final CommandRegistry registry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser of all commands.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Creates a parser of the commands registered in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Returns a registry of all commands.
+     */
+    public static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(AddToModuleCommand.COMMAND_WORD, new AddToModuleCommandParser());
+        registry.register(RemoveFromModuleCommand.COMMAND_WORD, new RemoveFromModuleCommandParser());
+        registry.register(AddToTutorialCommand.COMMAND_WORD, new AddToTutorialCommandParser());
+        registry.register(RemoveFromTutorialCommand.COMMAND_WORD, new RemoveFromTutorialCommandParser());
+        registry.register(SearchCommand.COMMAND_WORD, new SearchCommandParser());
+        registry.register(AttendanceCommand.COMMAND_WORD, new AttendanceCommandParser());
+        registry.register(DeleteAttendanceCommand.COMMAND_WORD, new DeleteAttendanceCommandParser());
+
+        // modules, tutorials and assignments are mostly set up once, at the start of a semester, so their parsers are
+        // created by lambdas rather than constructor references to keep even their classes from loading until needed
+        registry.registerLazily(AddModuleCommand.COMMAND_WORD, () -> new AddModuleCommandParser());
+        registry.registerLazily(DeleteModuleCommand.COMMAND_WORD, () -> new DeleteModuleCommandParser());
+        registry.registerLazily(AddTutorialCommand.COMMAND_WORD, () -> new AddTutorialCommandParser());
+        registry.registerLazily(DeleteTutorialCommand.COMMAND_WORD, () -> new DeleteTutorialCommandParser());
+        registry.registerLazily(AddAssignmentCommand.COMMAND_WORD, () -> new AddAssignmentCommandParser());
+        registry.registerLazily(RunCommand.COMMAND_WORD, () -> new RunCommandParser());
+        registry.registerLazily(ImportCommand.COMMAND_WORD, () -> new ImportCommandParser());
+        registry.registerLazily(ExportCommand.COMMAND_WORD, () -> new ExportCommandParser());
+        return registry;
+    }
+
+    public CommandRegistry getRegistry() {
+        return registry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -50,85 +107,27 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case AddModuleCommand.COMMAND_WORD:
-            return new AddModuleCommandParser().parse(arguments);
-
-        case DeleteModuleCommand.COMMAND_WORD:
-            return new DeleteModuleCommandParser().parse(arguments);
-
-        case AddToModuleCommand.COMMAND_WORD:
-            return new AddToModuleCommandParser().parse(arguments);
-
-        case RemoveFromModuleCommand.COMMAND_WORD:
-            return new RemoveFromModuleCommandParser().parse(arguments);
-
-        case AddTutorialCommand.COMMAND_WORD:
-            return new AddTutorialCommandParser().parse(arguments);
-
-        case DeleteTutorialCommand.COMMAND_WORD:
-            return new DeleteTutorialCommandParser().parse(arguments);
-
-        case AddToTutorialCommand.COMMAND_WORD:
-            return new AddToTutorialCommandParser().parse(arguments);
-
-        case RemoveFromTutorialCommand.COMMAND_WORD:
-            return new RemoveFromTutorialCommandParser().parse(arguments);
-
-        case SearchCommand.COMMAND_WORD:
-            return new SearchCommandParser().parse(arguments);
-
-        case AttendanceCommand.COMMAND_WORD:
-            return new AttendanceCommandParser().parse(arguments);
-
-        case AddAssignmentCommand.COMMAND_WORD:
-            return new AddAssignmentCommandParser().parse(arguments);
-
-        case DeleteAttendanceCommand.COMMAND_WORD:
-            return new DeleteAttendanceCommandParser().parse(arguments);
-
-        default:
+        if (!registry.isRegistered(commandWord)) {
             logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return registry.parse(commandWord, arguments);
     }
 
 }
@@ -16,11 +16,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ *
+ * Values found by {@code ArgumentTokenizer} are stored as slices of the arguments string, and are only trimmed and
+ * copied out of it when they are read.
  */
 public class ArgumentMultimap {
 
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<Slice>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -30,17 +33,22 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(new Slice(argValue));
+    }
+
+    /**
+     * Associates the part of {@code source} from {@code start} to {@code end}, trimmed, with {@code prefix}.
+     */
+    void put(Prefix prefix, String source, int start, int end) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(new Slice(source, start, end));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<Slice> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1).getValue());
     }
 
     /**
@@ -49,10 +57,11 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (Slice slice : argMultimap.getOrDefault(prefix, List.of())) {
+            values.add(slice.getValue());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
@@ -82,4 +91,42 @@ public class ArgumentMultimap {
     public boolean isEmpty() {
         return argMultimap.isEmpty();
     }
+
+    /**
+     * A value in the multimap: a part of a string, read out of it the first time it is needed.
+     */
+    private static class Slice {
+        private final String source;
+        private final int start;
+        private final int end;
+        private String value;
+
+        Slice(String value) {
+            this.source = value;
+            this.start = 0;
+            this.end = value.length();
+            this.value = value;
+        }
+
+        Slice(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        String getValue() {
+            if (value == null) {
+                int from = start;
+                int to = end;
+                while (from < to && source.charAt(from) <= ' ') {
+                    from++;
+                }
+                while (to > from && source.charAt(to - 1) <= ' ') {
+                    to--;
+                }
+                value = source.substring(from, to);
+            }
+            return value;
+        }
+    }
 }
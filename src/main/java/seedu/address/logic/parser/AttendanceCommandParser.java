@@ -4,8 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.commands.PersonSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 
@@ -13,6 +13,8 @@ import seedu.address.model.tag.Tag;
  * Parses input arguments and creates a new AttendanceCommand object
  */
 public class AttendanceCommandParser implements Parser<AttendanceCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_ATTENDANCE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AttendanceCommand
      * and returns an AttendanceCommand object for execution.
@@ -20,7 +22,7 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
      */
     public AttendanceCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ATTENDANCE);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         // check if "se/" prefix exists
         if (!isPrefixPresent(argMultimap, PREFIX_ATTENDANCE)) {
@@ -28,7 +30,7 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
         }
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ATTENDANCE);
 
-        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        PersonSelection index = ParserUtil.parsePersonSelection(argMultimap.getPreamble());
         Tag toAdd = ParserUtil.parseTag(argMultimap.getValue(PREFIX_ATTENDANCE).get());
 
         return new AttendanceCommand(index, toAdd);
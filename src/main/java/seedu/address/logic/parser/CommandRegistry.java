@@ -0,0 +1,140 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers of their arguments.
+ *
+ * Each command word has one parser, which is shared by every parse of that command and so must not keep state
+ * between parses. A parser is either registered directly, or registered as a factory that is only called the first
+ * time the command is parsed, so that the parsers of rarely used commands (and the classes behind them) are not
+ * loaded until they are needed.
+ *
+ * The registry counts the parses of each command and the time they took.
+ * A registry is not safe to use from more than one thread at a time.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word %1$s is already registered";
+    public static final String MESSAGE_UNREGISTERED_COMMAND_WORD = "Command word %1$s is not registered";
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Registers {@code parser} as the parser of the arguments of {@code commandWord}.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireAllNonNull(commandWord, parser);
+        addEntry(commandWord, () -> parser);
+        entries.get(commandWord).parser = parser;
+    }
+
+    /**
+     * Registers the parser created by {@code factory} as the parser of the arguments of {@code commandWord}.
+     * {@code factory} is called once, the first time {@code commandWord} is parsed.
+     */
+    public void registerLazily(String commandWord, Supplier<? extends Parser<? extends Command>> factory) {
+        requireAllNonNull(commandWord, factory);
+        addEntry(commandWord, factory);
+    }
+
+    private void addEntry(String commandWord, Supplier<? extends Parser<? extends Command>> factory) {
+        checkArgument(!entries.containsKey(commandWord), String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        entries.put(commandWord, new Entry(factory));
+    }
+
+    /**
+     * Parses {@code arguments} with the parser of {@code commandWord} into a command.
+     *
+     * @throws ParseException if {@code commandWord} is not registered, or if {@code arguments} do not conform to the
+     *     expected format of the command.
+     */
+    public Command parse(String commandWord, String arguments) throws ParseException {
+        requireAllNonNull(commandWord, arguments);
+        Entry entry = entries.get(commandWord);
+        if (entry == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return entry.getParser().parse(arguments);
+        } finally {
+            entry.parseCount++;
+            entry.parseNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Returns true if {@code commandWord} is registered.
+     */
+    public boolean isRegistered(String commandWord) {
+        return entries.containsKey(commandWord);
+    }
+
+    /**
+     * Returns the registered command words.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns true if the parser of {@code commandWord} has been created.
+     */
+    public boolean isLoaded(String commandWord) {
+        return getEntry(commandWord).parser != null;
+    }
+
+    /**
+     * Returns the number of times {@code commandWord} has been parsed, successfully or not.
+     */
+    public long getParseCount(String commandWord) {
+        return getEntry(commandWord).parseCount;
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent parsing {@code commandWord}, including creating its parser.
+     */
+    public long getParseNanos(String commandWord) {
+        return getEntry(commandWord).parseNanos;
+    }
+
+    private Entry getEntry(String commandWord) {
+        Entry entry = entries.get(commandWord);
+        checkArgument(entry != null, String.format(MESSAGE_UNREGISTERED_COMMAND_WORD, commandWord));
+        return entry;
+    }
+
+    /**
+     * The parser of a command word and its statistics.
+     */
+    private static class Entry {
+        private final Supplier<? extends Parser<? extends Command>> factory;
+        private Parser<? extends Command> parser;
+        private long parseCount;
+        private long parseNanos;
+
+        Entry(Supplier<? extends Parser<? extends Command>> factory) {
+            this.factory = factory;
+        }
+
+        Parser<? extends Command> getParser() {
+            if (parser == null) {
+                parser = factory.get();
+            }
+            return parser;
+        }
+    }
+}
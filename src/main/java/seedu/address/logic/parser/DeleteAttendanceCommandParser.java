@@ -4,8 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteAttendanceCommand;
+import seedu.address.logic.commands.PersonReference;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 
@@ -13,6 +13,8 @@ import seedu.address.model.tag.Tag;
  * Parses input arguments and creates a new DeleteAttendanceCommand object
  */
 public class DeleteAttendanceCommandParser implements Parser<DeleteAttendanceCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_ATTENDANCE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AttendanceCommand
      * and returns an AttendanceCommand object for execution.
@@ -20,7 +22,7 @@ public class DeleteAttendanceCommandParser implements Parser<DeleteAttendanceCom
      */
     public DeleteAttendanceCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ATTENDANCE);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!isPrefixPresent(argMultimap, PREFIX_ATTENDANCE)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -28,7 +30,7 @@ public class DeleteAttendanceCommandParser implements Parser<DeleteAttendanceCom
         }
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ATTENDANCE);
 
-        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        PersonReference index = ParserUtil.parsePersonReference(argMultimap.getPreamble());
         Tag toAdd = ParserUtil.parseTag(argMultimap.getValue(PREFIX_ATTENDANCE).get());
 
         return new DeleteAttendanceCommand(index, toAdd);
@@ -2,8 +2,8 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.PersonReference;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -18,7 +18,7 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
+            PersonReference index = ParserUtil.parsePersonReference(args);
             return new DeleteCommand(index);
         } catch (ParseException pe) {
             throw new ParseException(
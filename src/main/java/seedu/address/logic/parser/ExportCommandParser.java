@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Format;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.Module;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MODULE, PREFIX_TUTORIAL_NAME);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODULE, PREFIX_TUTORIAL_NAME);
+
+        String[] preamble = argMultimap.getPreamble().split("\\s+");
+        if (preamble.length > 2 || preamble[0].isEmpty() || !FileUtil.isValidPath(preamble[0])) {
+            throw invalidFormat();
+        }
+        Path filePath = Paths.get(preamble[0]);
+        Format format = preamble.length == 2 ? parseFormat(preamble[1]) : Format.ofFileName(preamble[0]);
+
+        if (argMultimap.getValue(PREFIX_MODULE).isEmpty()) {
+            if (argMultimap.getValue(PREFIX_TUTORIAL_NAME).isPresent()) {
+                throw invalidFormat();
+            }
+            return new ExportCommand(filePath, format);
+        }
+
+        Module module = ParserUtil.parseModule(argMultimap.getValue(PREFIX_MODULE).get());
+        Tutorial tutorial = null;
+        if (argMultimap.getValue(PREFIX_TUTORIAL_NAME).isPresent()) {
+            String tutorialName = ParserUtil.parseTutorialName(argMultimap.getValue(PREFIX_TUTORIAL_NAME).get());
+            tutorial = Tutorial.of(module, tutorialName);
+        }
+        return new ExportCommand(filePath, format, module, tutorial);
+    }
+
+    private static Format parseFormat(String format) throws ParseException {
+        for (Format candidate : Format.values()) {
+            if (candidate.name().equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw invalidFormat();
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Arrays;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameKeyword;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -26,6 +27,11 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        for (String nameKeyword : nameKeywords) {
+            if (!NameKeyword.isValidKeyword(nameKeyword)) {
+                throw new ParseException(NameKeyword.MESSAGE_CONSTRAINTS);
+            }
+        }
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
@@ -2,12 +2,17 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Validator;
+import seedu.address.logic.commands.PersonReference;
+import seedu.address.logic.commands.PersonSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.assignment.Title;
 import seedu.address.model.module.Module;
@@ -24,6 +29,13 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RANGE = "A range of indexes must not end before it starts.";
+
+    private static final String SELECTION_SEPARATOR = ",";
+    private static final String RANGE_SEPARATOR = "-";
+
+    /** A reference made only of digits is an index, even if it is also a valid student number. */
+    private static final Validator NUMERIC_REFERENCE_VALIDATOR = Validator.ofCharacters(1, Validator::isDigit);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -38,6 +50,53 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code reference} into a {@code PersonReference} and returns it. Leading and trailing whitespaces will
+     * be trimmed. A reference is either a one-based index into the displayed person list or a student number. A
+     * reference made only of digits is always read as an index.
+     * @throws ParseException if {@code reference} is neither a valid index nor a student number.
+     */
+    public static PersonReference parsePersonReference(String reference) throws ParseException {
+        requireNonNull(reference);
+        String trimmedReference = reference.trim();
+        if (!NUMERIC_REFERENCE_VALIDATOR.isValid(trimmedReference)
+                && StudentNumber.isValidStudentNumber(trimmedReference)) {
+            return PersonReference.of(new StudentNumber(trimmedReference));
+        }
+        return PersonReference.of(parseIndex(trimmedReference));
+    }
+
+    /**
+     * Parses {@code selection} into a {@code PersonSelection} and returns it. Whitespace around its parts will be
+     * trimmed. A selection is either {@code all}, for every displayed person, or a comma-separated list of person
+     * references and ranges of one-based indexes such as {@code 1-30}.
+     * @throws ParseException if a part of {@code selection} is neither a person reference nor a valid range.
+     */
+    public static PersonSelection parsePersonSelection(String selection) throws ParseException {
+        requireNonNull(selection);
+        String trimmedSelection = selection.trim();
+        if (trimmedSelection.equalsIgnoreCase(PersonSelection.ALL_KEYWORD)) {
+            return PersonSelection.ofAll();
+        }
+
+        List<PersonSelection> parts = new ArrayList<>();
+        for (String part : trimmedSelection.split(SELECTION_SEPARATOR, -1)) {
+            int rangeSeparator = part.indexOf(RANGE_SEPARATOR);
+            if (rangeSeparator < 0) {
+                parts.add(PersonSelection.of(parsePersonReference(part)));
+                continue;
+            }
+
+            Index first = parseIndex(part.substring(0, rangeSeparator));
+            Index last = parseIndex(part.substring(rangeSeparator + RANGE_SEPARATOR.length()));
+            if (first.getZeroBased() > last.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_RANGE);
+            }
+            parts.add(PersonSelection.ofRange(first, last));
+        }
+        return PersonSelection.union(parts);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -123,7 +182,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -150,7 +209,7 @@ public class ParserUtil {
         if (!Module.isValidModule(trimmedModuleCode)) {
             throw new ParseException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new Module(trimmedModuleCode);
+        return Module.of(trimmedModuleCode);
     }
 
     /**
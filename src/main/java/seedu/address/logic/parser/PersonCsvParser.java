@@ -0,0 +1,113 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Parses a row of a CSV roster into a person.
+ *
+ * A row has the columns {@code name,phone,email,student number,telegram,module,tutorial}, of which the first three
+ * are required. Trailing columns may be left out, and the student number and telegram handle default to the same
+ * placeholders as in the {@code add} command. A tutorial is only given with its module.
+ * The parser keeps no state, so rows may be parsed on several threads at once.
+ */
+public class PersonCsvParser {
+
+    public static final List<String> COLUMNS =
+            List.of("name", "phone", "email", "student number", "telegram", "module", "tutorial");
+
+    public static final String MESSAGE_WRONG_COLUMN_COUNT =
+            "Expected %1$d to %2$d columns (" + String.join(",", COLUMNS) + ") but found %3$d";
+    public static final String MESSAGE_TUTORIAL_WITHOUT_MODULE = "A tutorial must be given with its module";
+
+    private static final int REQUIRED_COLUMNS = 3;
+    private static final int STUDENT_NUMBER_COLUMN = 3;
+    private static final int TELEGRAM_COLUMN = 4;
+    private static final int MODULE_COLUMN = 5;
+    private static final int TUTORIAL_COLUMN = 6;
+
+    /**
+     * Returns true if {@code line} is the header row of a roster, naming its columns.
+     */
+    public boolean isHeader(String line) {
+        requireNonNull(line);
+        List<String> fields;
+        try {
+            fields = CsvUtil.splitLine(line);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return fields.get(0).trim().equalsIgnoreCase(COLUMNS.get(0));
+    }
+
+    /**
+     * Parses the roster row {@code line} into a person.
+     * The person's tutorial, if any, carries only its module and name, not the details stored with the tutorial.
+     *
+     * @throws ParseException if {@code line} is not a valid row.
+     */
+    public Person parse(String line) throws ParseException {
+        requireNonNull(line);
+        List<String> fields;
+        try {
+            fields = CsvUtil.splitLine(line);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage(), e);
+        }
+        if (fields.size() < REQUIRED_COLUMNS || fields.size() > COLUMNS.size()) {
+            throw new ParseException(
+                    String.format(MESSAGE_WRONG_COLUMN_COUNT, REQUIRED_COLUMNS, COLUMNS.size(), fields.size()));
+        }
+
+        Name name = ParserUtil.parseName(fields.get(0));
+        Phone phone = ParserUtil.parsePhone(fields.get(1));
+        Email email = ParserUtil.parseEmail(fields.get(2));
+
+        String studentNumber = getField(fields, STUDENT_NUMBER_COLUMN);
+        StudentNumber parsedStudentNumber = studentNumber.isEmpty()
+                ? new StudentNumber(StudentNumber.PLACEHOLDER)
+                : ParserUtil.parseStudentNumber(studentNumber);
+        String telegram = getField(fields, TELEGRAM_COLUMN);
+        Telegram parsedTelegram = telegram.isEmpty()
+                ? new Telegram(Telegram.PLACEHOLDER)
+                : ParserUtil.parseTelegram(telegram);
+
+        String module = getField(fields, MODULE_COLUMN);
+        String tutorial = getField(fields, TUTORIAL_COLUMN);
+        Set<Module> modules = Collections.emptySet();
+        Set<Tutorial> tutorials = Collections.emptySet();
+        if (!module.isEmpty()) {
+            Module parsedModule = ParserUtil.parseModule(module);
+            modules = Set.of(parsedModule);
+            if (!tutorial.isEmpty()) {
+                tutorials = Set.of(Tutorial.of(parsedModule, ParserUtil.parseTutorialName(tutorial)));
+            }
+        } else if (!tutorial.isEmpty()) {
+            throw new ParseException(MESSAGE_TUTORIAL_WITHOUT_MODULE);
+        }
+
+        return new Person(name, phone, email, Collections.emptySet(), modules, tutorials, parsedStudentNumber,
+                parsedTelegram);
+    }
+
+    /**
+     * Returns the trimmed value of column {@code column}, or an empty string if the row stops before it.
+     */
+    private static String getField(List<String> fields, int column) {
+        return column < fields.size() ? fields.get(column).trim() : "";
+    }
+}
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.PersonSelection;
 import seedu.address.logic.commands.RemoveFromModuleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.module.Module;
@@ -13,6 +13,8 @@ import seedu.address.model.module.Module;
  * Parses input arguments and creates a new RemoveFromModuleCommand object
  */
 public class RemoveFromModuleCommandParser implements Parser<RemoveFromModuleCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MODULE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the RemoveFromModuleCommand
      * and returns an RemoveFromModuleCommand object for execution.
@@ -20,8 +22,7 @@ public class RemoveFromModuleCommandParser implements Parser<RemoveFromModuleCom
      */
     public RemoveFromModuleCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_MODULE);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODULE);
 
@@ -30,10 +31,10 @@ public class RemoveFromModuleCommandParser implements Parser<RemoveFromModuleCom
                     RemoveFromModuleCommand.MESSAGE_USAGE));
         }
 
-        Index index;
+        PersonSelection index;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            index = ParserUtil.parsePersonSelection(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(ParserUtil.MESSAGE_INVALID_INDEX, pe);
         }
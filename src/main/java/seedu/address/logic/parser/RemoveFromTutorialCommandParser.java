@@ -7,7 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.PersonReference;
 import seedu.address.logic.commands.RemoveFromTutorialCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.module.Module;
@@ -17,6 +17,7 @@ import seedu.address.model.tutorial.Tutorial;
  * Parses input arguments and creates a new RemoveFromTutorial object
  */
 public class RemoveFromTutorialCommandParser implements Parser<RemoveFromTutorialCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MODULE, PREFIX_TUTORIAL_NAME);
 
     /**
      * Parses the given {@code String} of arguments in the context of the RemoveFromTutorial
@@ -25,12 +26,11 @@ public class RemoveFromTutorialCommandParser implements Parser<RemoveFromTutoria
      */
     public RemoveFromTutorialCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_TUTORIAL_NAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
-        Index index;
+        PersonReference index;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            index = ParserUtil.parsePersonReference(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     RemoveFromTutorialCommand.MESSAGE_USAGE), pe);
@@ -44,7 +44,7 @@ public class RemoveFromTutorialCommandParser implements Parser<RemoveFromTutoria
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODULE, PREFIX_TUTORIAL_NAME);
         Module module = ParserUtil.parseModule(argMultimap.getValue(PREFIX_MODULE).get());
         String tutorialName = ParserUtil.parseTutorialName(argMultimap.getValue(PREFIX_TUTORIAL_NAME).get());
-        Tutorial tutorial = new Tutorial(module, tutorialName);
+        Tutorial tutorial = Tutorial.of(module, tutorialName);
         return new RemoveFromTutorialCommand(index, tutorial);
     }
 
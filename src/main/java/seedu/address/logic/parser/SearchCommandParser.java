@@ -1,33 +1,71 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_NUMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.module.Module;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchTerm;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
 
 /**
  * Parses input arguments and creates a new SearchCommand object
+ *
+ * Conditions written one after another must all hold. If the arguments use {@code AND}, {@code OR}, {@code NOT}
+ * or parentheses, they are parsed as a boolean expression over the conditions, where {@code NOT} binds tightest
+ * and {@code OR} loosest, and conditions written one after another are joined by {@code AND}.
  */
 public class SearchCommandParser implements Parser<SearchCommand> {
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final Set<String> OPERATORS =
+            Set.of(OPERATOR_AND, OPERATOR_OR, OPERATOR_NOT, OPEN_PARENTHESIS, CLOSE_PARENTHESIS);
+    private static final String PHONE_SUFFIX_MARKER = "*";
+    private static final String EMAIL_DOMAIN_MARKER = "@";
+    private static final List<Prefix> CONTACT_PREFIXES =
+            List.of(PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TELEGRAM, PREFIX_STUDENT_NUMBER);
+    private static final List<Prefix> CONDITION_PREFIXES = List.of(PREFIX_NAME, PREFIX_MODULE, PREFIX_TUTORIAL_NAME,
+            PREFIX_TAG, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TELEGRAM, PREFIX_STUDENT_NUMBER);
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(CONDITION_PREFIXES.toArray(Prefix[]::new));
+
     /**
      * Parses the given {@code String} of arguments in the context of the SearchCommand
      * and returns an AddCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public SearchCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_MODULE, PREFIX_TUTORIAL_NAME, PREFIX_TAG);
+        List<String> words = splitWords(args);
+        if (words.stream().anyMatch(OPERATORS::contains)) {
+            return new SearchCommand(new QueryReader(words).read());
+        }
+
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
         if (!argMultimap.getPreamble().isEmpty() || argMultimap.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
         }
@@ -42,23 +80,201 @@ public class SearchCommandParser implements Parser<SearchCommand> {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_INVALID_NUM_OF_MODULES));
         }
-        final List<Name> personNameList = argMultimap.getAllValues(PREFIX_NAME)
-                .stream()
-                .map(nameString -> new Name(nameString))
-                .collect(Collectors.toList());
+        final List<SearchTerm> terms = new ArrayList<>();
+        argMultimap.getAllValues(PREFIX_NAME)
+                .forEach(nameString -> terms.add(SearchTerm.name(new Name(nameString))));
         final List<Module> moduleList = argMultimap.getAllValues(PREFIX_MODULE)
                 .stream()
-                .map(moduleCode -> new Module(moduleCode))
-                .collect(Collectors.toList());
-        final List<Tutorial> tutorialList = argMultimap.getAllValues(PREFIX_TUTORIAL_NAME)
-                .stream()
-                .map(nameString -> new Tutorial(moduleList.get(0), nameString))
-                .collect(Collectors.toList());
-        final List<Tag> tagList = argMultimap.getAllValues(PREFIX_TAG)
-                .stream()
-                .map(tagName -> new Tag(tagName))
+                .map(Module::of)
                 .collect(Collectors.toList());
+        moduleList.forEach(module -> terms.add(SearchTerm.module(module)));
+        argMultimap.getAllValues(PREFIX_TUTORIAL_NAME)
+                .forEach(nameString -> terms.add(SearchTerm.tutorial(Tutorial.of(moduleList.get(0), nameString))));
+        argMultimap.getAllValues(PREFIX_TAG)
+                .forEach(tagName -> terms.add(SearchTerm.tag(Tag.of(tagName))));
+        for (Prefix prefix : CONTACT_PREFIXES) {
+            for (String value : argMultimap.getAllValues(prefix)) {
+                terms.add(parseContactTerm(prefix, value));
+            }
+        }
 
-        return new SearchCommand(personNameList, moduleList, tutorialList, tagList);
+        return new SearchCommand(SearchQuery.and(terms));
+    }
+
+    /**
+     * Parses the value of a phone, email, telegram or student number condition.
+     * A phone value starting with {@code *} matches the phone numbers ending with the digits after it, and an email
+     * value starting with {@code @} matches the emails in the domain after it.
+     *
+     * @throws ParseException if the value is invalid.
+     */
+    private static SearchTerm parseContactTerm(Prefix prefix, String value) throws ParseException {
+        String trimmedValue = value.trim();
+        if (prefix.equals(PREFIX_PHONE)) {
+            if (!trimmedValue.startsWith(PHONE_SUFFIX_MARKER)) {
+                return SearchTerm.phone(ParserUtil.parsePhone(trimmedValue));
+            }
+            String digits = trimmedValue.substring(PHONE_SUFFIX_MARKER.length());
+            if (!Phone.isValidDigits(digits)) {
+                throw new ParseException(Phone.MESSAGE_DIGITS_CONSTRAINTS);
+            }
+            return SearchTerm.phoneSuffix(digits);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            if (!trimmedValue.startsWith(EMAIL_DOMAIN_MARKER)) {
+                return SearchTerm.email(ParserUtil.parseEmail(trimmedValue));
+            }
+            String domain = trimmedValue.substring(EMAIL_DOMAIN_MARKER.length());
+            if (!Email.isValidDomain(domain)) {
+                throw new ParseException(Email.MESSAGE_CONSTRAINTS);
+            }
+            return SearchTerm.emailDomain(domain);
+        } else if (prefix.equals(PREFIX_TELEGRAM)) {
+            return SearchTerm.telegram(ParserUtil.parseTelegram(trimmedValue));
+        } else {
+            return SearchTerm.studentNumber(ParserUtil.parseStudentNumber(trimmedValue));
+        }
+    }
+
+    /**
+     * Splits {@code args} into words, with every parenthesis as a word of its own.
+     */
+    private static List<String> splitWords(String args) {
+        String spaced = args.replace(OPEN_PARENTHESIS, " ( ").replace(CLOSE_PARENTHESIS, " ) ").trim();
+        return spaced.isEmpty() ? List.of() : Arrays.asList(spaced.split("\\s+"));
+    }
+
+    private static Optional<Prefix> prefixOf(String word) {
+        return CONDITION_PREFIXES.stream().filter(prefix -> word.startsWith(prefix.getPrefix())).findFirst();
+    }
+
+    private static ParseException invalidQuery() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * A recursive descent reader of one boolean search expression.
+     */
+    private static class QueryReader {
+        private final List<String> words;
+        private final Module tutorialModule;
+        private int position = 0;
+
+        /**
+         * Creates a reader of {@code words}. Tutorials are looked up in the only module the words mention.
+         *
+         * @throws ParseException if the words mention a tutorial but not exactly one module.
+         */
+        QueryReader(List<String> words) throws ParseException {
+            this.words = words;
+            Set<Module> modules = new HashSet<>();
+            boolean hasTutorial = false;
+            for (String word : words) {
+                if (word.startsWith(PREFIX_MODULE.getPrefix())) {
+                    modules.add(ParserUtil.parseModule(word.substring(PREFIX_MODULE.getPrefix().length())));
+                }
+                hasTutorial |= word.startsWith(PREFIX_TUTORIAL_NAME.getPrefix());
+            }
+            if (hasTutorial && modules.size() != 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_INVALID_NUM_OF_MODULES));
+            }
+            tutorialModule = hasTutorial ? modules.iterator().next() : null;
+        }
+
+        /**
+         * Reads the whole expression.
+         *
+         * @throws ParseException if the words are not a well-formed expression.
+         */
+        SearchQuery read() throws ParseException {
+            SearchQuery query = readDisjunction();
+            if (position != words.size()) {
+                throw invalidQuery();
+            }
+            return query;
+        }
+
+        private SearchQuery readDisjunction() throws ParseException {
+            List<SearchQuery> operands = new ArrayList<>();
+            operands.add(readConjunction());
+            while (accept(OPERATOR_OR)) {
+                operands.add(readConjunction());
+            }
+            return SearchQuery.or(operands);
+        }
+
+        private SearchQuery readConjunction() throws ParseException {
+            List<SearchQuery> operands = new ArrayList<>();
+            operands.add(readNegation());
+            while (accept(OPERATOR_AND) || startsOperand()) {
+                operands.add(readNegation());
+            }
+            return SearchQuery.and(operands);
+        }
+
+        private SearchQuery readNegation() throws ParseException {
+            if (accept(OPERATOR_NOT)) {
+                return SearchQuery.not(readNegation());
+            }
+            if (accept(OPEN_PARENTHESIS)) {
+                SearchQuery query = readDisjunction();
+                if (!accept(CLOSE_PARENTHESIS)) {
+                    throw invalidQuery();
+                }
+                return query;
+            }
+            return readTerm();
+        }
+
+        /**
+         * Reads one condition. Its value runs until the next operator or condition.
+         */
+        private SearchTerm readTerm() throws ParseException {
+            if (position == words.size()) {
+                throw invalidQuery();
+            }
+            String word = words.get(position++);
+            Prefix prefix = prefixOf(word).orElseThrow(SearchCommandParser::invalidQuery);
+            StringBuilder value = new StringBuilder(word.substring(prefix.getPrefix().length()));
+            while (position < words.size() && !OPERATORS.contains(words.get(position))
+                    && prefixOf(words.get(position)).isEmpty()) {
+                value.append(' ').append(words.get(position++));
+            }
+            return toTerm(prefix, value.toString().trim());
+        }
+
+        private SearchTerm toTerm(Prefix prefix, String value) throws ParseException {
+            if (prefix.equals(PREFIX_NAME)) {
+                return SearchTerm.name(ParserUtil.parseName(value));
+            } else if (prefix.equals(PREFIX_MODULE)) {
+                return SearchTerm.module(ParserUtil.parseModule(value));
+            } else if (prefix.equals(PREFIX_TUTORIAL_NAME)) {
+                String tutorialName = ParserUtil.parseTutorialName(value);
+                if (tutorialName.isEmpty()) {
+                    throw invalidQuery();
+                }
+                return SearchTerm.tutorial(Tutorial.of(tutorialModule, tutorialName));
+            } else if (prefix.equals(PREFIX_TAG)) {
+                return SearchTerm.tag(ParserUtil.parseTag(value));
+            } else {
+                return parseContactTerm(prefix, value);
+            }
+        }
+
+        private boolean startsOperand() {
+            if (position == words.size()) {
+                return false;
+            }
+            String word = words.get(position);
+            return word.equals(OPERATOR_NOT) || word.equals(OPEN_PARENTHESIS) || prefixOf(word).isPresent();
+        }
+
+        private boolean accept(String operator) {
+            if (position < words.size() && words.get(position).equals(operator)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
     }
 }
@@ -2,18 +2,29 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.assignment.UniqueAssignmentList;
+import seedu.address.model.attendance.AttendanceLedger;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.UniqueModuleList;
+import seedu.address.model.person.NameKeyword;
+import seedu.address.model.person.NameMatches;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.UniqueField;
 import seedu.address.model.person.UniquePersonList;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.search.SearchQuery;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.model.tutorial.UniqueTutorialList;
 
@@ -27,7 +38,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueModuleList modules;
     private final UniqueTutorialList tutorials;
     private final UniqueAssignmentList assignments;
-    private List<Tag> attendanceTags;
+    private final AttendanceLedger attendance;
+    private final MembershipIndex membershipIndex;
+    private final NameTokenIndex nameTokenIndex;
+    private final StudentNumberIndex studentNumberIndex;
+    private final List<PersonIndex> personIndexes;
+    private int batchDepth;
+    private boolean isBatchAborted;
+    private BatchStart batchStart;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -41,7 +59,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         modules = new UniqueModuleList();
         tutorials = new UniqueTutorialList();
         assignments = new UniqueAssignmentList();
-        attendanceTags = new ArrayList<>();
+        attendance = new AttendanceLedger();
+        membershipIndex = new MembershipIndex();
+        nameTokenIndex = new NameTokenIndex();
+        studentNumberIndex = new StudentNumberIndex();
+        personIndexes = List.of(membershipIndex, nameTokenIndex, studentNumberIndex);
     }
 
     public AddressBook() {}
@@ -61,7 +83,26 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        setPersons(persons, getUniqueFields());
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, and keeps {@code uniqueFields} unique from now on.
+     * {@code persons} must not contain duplicate persons, or persons sharing the value of one of {@code uniqueFields}.
+     */
+    public void setPersons(List<Person> persons, Set<UniqueField> uniqueFields) {
+        changePersons(() -> {
+            this.persons.setPersons(persons, uniqueFields);
+            personIndexes.forEach(index -> index.reset(persons));
+        });
+    }
+
+    /**
+     * Keeps {@code uniqueFields} unique across the persons in the address book from now on.
+     * The persons already in the address book must not share the value of any of {@code uniqueFields}.
+     */
+    public void setUniqueFields(Set<UniqueField> uniqueFields) {
+        persons.setUniqueFields(uniqueFields);
     }
 
     /**
@@ -89,13 +130,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Replaces the contents of the person list with {@code assignments}.
-     * {@code assignments} must not contain duplicate assignments.
+     * Replaces the contents of the attendance ledger with {@code records}.
      */
-    public void setAttendanceTags(List<Tag> attendanceTags) {
-        for (Tag tag : attendanceTags) {
-            this.attendanceTags.add(tag);
-        }
+    public void setAttendanceRecords(Map<StudentNumber, ? extends Collection<String>> records) {
+        this.attendance.setRecords(records);
     }
 
     /**
@@ -104,11 +142,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        setPersons(newData.getPersonList(), newData.getUniqueFields());
         setModules(newData.getModuleList());
         setTutorials(newData.getTutorialList());
         setAssignments(newData.getAssignmentList());
-        setAttendanceTags(newData.getAttendanceTagsList());
+        setAttendanceRecords(newData.getAttendanceRecords());
     }
 
     //// person-level operations
@@ -126,7 +164,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        changePersons(() -> {
+            persons.add(p);
+            personIndexes.forEach(index -> index.add(p));
+        });
     }
 
     /**
@@ -137,7 +178,15 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        changePersons(() -> {
+            persons.setPerson(target, editedPerson);
+            personIndexes.forEach(index -> index.replace(target, editedPerson));
+        });
+
+        StudentNumber oldStudentNumber = target.getStudentNumber();
+        if (!oldStudentNumber.equals(editedPerson.getStudentNumber()) && !isStudentNumberInUse(oldStudentNumber)) {
+            attendance.moveStudent(oldStudentNumber, editedPerson.getStudentNumber());
+        }
     }
 
     /**
@@ -145,7 +194,117 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        changePersons(() -> {
+            persons.remove(key);
+            personIndexes.forEach(index -> index.remove(key));
+        });
+        if (!isStudentNumberInUse(key.getStudentNumber())) {
+            attendance.removeStudent(key.getStudentNumber());
+        }
+    }
+
+    /**
+     * Replaces every person with the result of applying {@code rewriter} to it, in a single pass over the whole
+     * address book and a single change to the person list.
+     * {@code rewriter} must not change the identity of any person, and should return the same person if it has
+     * nothing to change.
+     */
+    public void rewritePersons(UnaryOperator<Person> rewriter) {
+        changePersons(() -> {
+            Iterator<Person> original = persons.replaceAll(rewriter).iterator();
+            for (Person rewritten : persons) {
+                Person person = original.next();
+                if (person != rewritten) {
+                    personIndexes.forEach(index -> index.replace(person, rewritten));
+                }
+            }
+        });
+    }
+
+    /**
+     * Makes {@code change} to the person list and the person indexes as one batch, so that listeners of the person
+     * list, such as filters answered from the indexes, only see the change once the indexes agree with it.
+     */
+    private void changePersons(Runnable change) {
+        persons.beginBatch();
+        try {
+            change.run();
+        } finally {
+            persons.commitBatch();
+        }
+    }
+
+    /**
+     * Starts a batch of changes to this address book.
+     * The person list returned by {@link #getPersonList()} is not updated until the batch is committed.
+     * Batches may be nested; only the outermost batch is committed.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            batchStart = new BatchStart();
+        }
+        persons.beginBatch();
+    }
+
+    /**
+     * Commits the current batch of changes, updating the person list with a single change.
+     * Does nothing if no batch has been started.
+     */
+    public void commitBatch() {
+        if (batchDepth == 0) {
+            return;
+        }
+        persons.commitBatch();
+        endBatch();
+    }
+
+    /**
+     * Ends the current batch of changes without committing it. When the outermost batch ends, the address book is
+     * restored to its state when that batch began, so aborting a nested batch also aborts the batches containing it.
+     * Does nothing if no batch has been started.
+     */
+    public void abortBatch() {
+        if (batchDepth == 0) {
+            return;
+        }
+        isBatchAborted = true;
+        persons.abortBatch();
+        endBatch();
+    }
+
+    private void endBatch() {
+        if (--batchDepth > 0) {
+            return;
+        }
+        if (isBatchAborted) {
+            isBatchAborted = false;
+            batchStart.restore();
+        }
+        batchStart = null;
+    }
+
+    /**
+     * Returns a predicate that is true for persons in this address book matched by {@code query}.
+     * The matching persons are looked up in the membership index, and follow later changes to the persons.
+     */
+    public Predicate<Person> getSearchPredicate(SearchQuery query) {
+        return membershipIndex.match(query);
+    }
+
+    /**
+     * Returns the persons in this address book with {@code studentNumber}, looked up in constant time.
+     */
+    public List<Person> getPersonsWith(StudentNumber studentNumber) {
+        return studentNumberIndex.get(studentNumber);
+    }
+
+    /**
+     * Returns the persons in this address book whose name contains a word matching any of {@code keywords}.
+     * The matching persons are looked up in the name index when this method is called, and persons added or renamed
+     * later are matched against the keywords as they are tested.
+     */
+    public NameMatches getNameMatches(Collection<NameKeyword> keywords) {
+        return nameTokenIndex.matchNames(keywords);
     }
 
     //// module-level operations
@@ -159,11 +318,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Delete a {@code module} to the address book.
+     * Delete a {@code module} to the address book, together with its tutorials.
+     * Every person in the address book is removed from the module and its tutorials.
      * The module must already exist in the address book.
      */
     public void removeModule(Module module) {
-        removeTutorialWithDeletedModule(module.getModuleCode());
+        rewritePersons(person -> person.withoutModule(module));
+        tutorials.removeTutorialsOf(module.getModuleCode());
         modules.remove(module);
     }
 
@@ -187,30 +348,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Delete a {@code tutorial} from the address book.
+     * Every person in the address book is removed from the tutorial.
      * The tutorial must already exist in the address book.
      */
     public void removeTutorial(Tutorial tutorial) {
+        rewritePersons(person -> person.withoutTutorial(tutorial));
         tutorials.remove(tutorial);
     }
 
-    /**
-     * Delete a tutorial that contains a deleted Module from the address book.
-     */
-    public void removeTutorialWithDeletedModule(String deletedModuleCode) {
-        List<Tutorial> toBeRemoved = new ArrayList<>();
-
-        // Stores the tutorials which are to be removed in another list
-        for (Tutorial tutorial : tutorials) {
-            if (tutorial.getModuleCode().equals(deletedModuleCode)) {
-                toBeRemoved.add(tutorial);
-            }
-        }
-
-        for (Tutorial tutorial : toBeRemoved) {
-            removeTutorial(tutorial);
-        }
-    }
-
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -219,6 +364,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tutorials.contains(tutorial);
     }
 
+    /**
+     * Returns the tutorial in the address book with the given {@code moduleCode} and {@code tutName}, if any.
+     */
+    public Optional<Tutorial> getTutorial(String moduleCode, String tutName) {
+        return tutorials.get(moduleCode, tutName);
+    }
+
     //// assignment-level operations
 
     /**
@@ -245,30 +397,46 @@ public class AddressBook implements ReadOnlyAddressBook {
         return assignments.contains(assignment);
     }
 
-    //// attendance tags operations
+    //// attendance operations
+
+    /**
+     * Records that the student with {@code studentNumber} attended {@code lesson}.
+     * The attendance must not already be recorded.
+     */
+    public void markAttendance(StudentNumber studentNumber, String lesson) {
+        attendance.mark(studentNumber, lesson);
+    }
+
+    /**
+     * Removes the attendance of the student with {@code studentNumber} for {@code lesson}.
+     * The attendance must already be recorded.
+     */
+    public void unmarkAttendance(StudentNumber studentNumber, String lesson) {
+        attendance.unmark(studentNumber, lesson);
+    }
 
     /**
-     * Adds a attendance tag to the address book.
-     * The tag must not already exist in the address book.
+     * Returns true if the student with {@code studentNumber} is recorded to have attended {@code lesson}.
      */
-    public void addAttendanceTag(Tag tag) {
-        attendanceTags.add(tag);
+    public boolean hasAttendance(StudentNumber studentNumber, String lesson) {
+        requireNonNull(studentNumber);
+        requireNonNull(lesson);
+        return attendance.isMarked(studentNumber, lesson);
     }
 
     /**
-     * Delete a attendance tag from the address book.
-     * The tag must already exist in the address book.
+     * Returns the lessons the student with {@code studentNumber} is recorded to have attended, in the order the
+     * lessons were first recorded.
      */
-    public void deleteAttendanceTag(Tag tag) {
-        attendanceTags.remove(tag);
+    public List<String> getAttendedLessons(StudentNumber studentNumber) {
+        return attendance.getLessons(studentNumber);
     }
 
     /**
-     * Returns true if a tag with the same identity as {@code tag} exists in the address book.
+     * Returns true if any person in the address book has {@code studentNumber}.
      */
-    public boolean hasAttendanceTag(Tag tag) {
-        requireNonNull(tag);
-        return attendanceTags.contains(tag);
+    private boolean isStudentNumberInUse(StudentNumber studentNumber) {
+        return !studentNumberIndex.get(studentNumber).isEmpty();
     }
 
     //// util methods
@@ -280,6 +448,11 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    @Override
+    public Set<UniqueField> getUniqueFields() {
+        return persons.getUniqueFields();
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -301,8 +474,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     @Override
-    public List<Tag> getAttendanceTagsList() {
-        return attendanceTags;
+    public Map<StudentNumber, List<String>> getAttendanceRecords() {
+        return attendance.asRecords();
     }
 
     @Override
@@ -324,4 +497,31 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * The modules, tutorials, assignments and attendance of this address book when the current batch began.
+     * The persons are not copied, as the person list keeps the changes of a batch aside until it is committed.
+     */
+    private class BatchStart {
+        private final List<Module> modules = List.copyOf(getModuleList());
+        private final List<Tutorial> tutorials = List.copyOf(getTutorialList());
+        private final List<Assignment> assignments = List.copyOf(getAssignmentList());
+        private final AttendanceLedger attendance = new AttendanceLedger();
+
+        BatchStart() {
+            attendance.setRecords(AddressBook.this.attendance);
+        }
+
+        /**
+         * Restores this address book to its state when the batch began, once the person list has discarded the
+         * changes of the batch.
+         */
+        void restore() {
+            personIndexes.forEach(index -> index.reset(getPersonList()));
+            setModules(modules);
+            setTutorials(tutorials);
+            setAssignments(assignments);
+            AddressBook.this.attendance.setRecords(attendance);
+        }
+    }
 }
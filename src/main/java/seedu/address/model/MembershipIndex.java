@@ -0,0 +1,315 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchIndex;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchTerm;
+
+/**
+ * An inverted index from each {@code Module}, {@code Tutorial} and {@code Tag}, and each phone number, email
+ * address, email domain, telegram handle and student number, to the persons that have it.
+ *
+ * Every person is given a slot number when added, which is kept when the person is edited. Each posting is a set
+ * of these slots together with its cardinality, which the index keeps up to date so that the selectivity of a
+ * {@code SearchTerm} can be estimated without scanning anything. A {@code SearchQuery} is answered by combining
+ * these postings with set operations. Phone numbers are also kept sorted by their digits in reverse, so that the
+ * persons whose number ends with some digits are one range of that order.
+ * The slots of removed persons are given to persons added later, so that the slots, and the postings over them,
+ * stay within the largest number of persons indexed at once. The index counts its changes and records the change
+ * at which each slot was last posted, together with the person posted, so that the predicate of a query only needs
+ * to test the persons posted since it matched the slots against the query.
+ */
+class MembershipIndex implements PersonIndex, SearchIndex {
+
+    private final Map<Name, Integer> slots = new HashMap<>();
+    private final BitSet liveSlots = new BitSet();
+    private final Map<SearchTerm, Posting> postings = new HashMap<>();
+    private final NavigableMap<String, Posting> reversedPhones = new TreeMap<>();
+    private long[] slotChanges = new long[0];
+    private Person[] slotPersons = new Person[0];
+    private long changeCount = 0;
+    private long resetChange = 0;
+
+    /**
+     * Replaces the contents of this index with the memberships of {@code persons}.
+     */
+    @Override
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        slots.clear();
+        postings.clear();
+        reversedPhones.clear();
+        liveSlots.clear();
+        slotChanges = new long[0];
+        slotPersons = new Person[0];
+        resetChange = ++changeCount;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Indexes the memberships of {@code person} under the lowest slot not in use.
+     */
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = liveSlots.nextClearBit(0);
+        slots.put(person.getName(), slot);
+        liveSlots.set(slot);
+        post(person, slot);
+    }
+
+    /**
+     * Removes {@code person} and its memberships from the index.
+     */
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person.getName());
+        if (slot != null) {
+            liveSlots.clear(slot);
+            slotPersons[slot] = null;
+            unpost(person, slot);
+        }
+    }
+
+    /**
+     * Replaces the memberships of {@code target} with those of {@code editedPerson}, keeping its slot.
+     */
+    @Override
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Integer slot = slots.remove(target.getName());
+        if (slot == null) {
+            add(editedPerson);
+            return;
+        }
+        unpost(target, slot);
+        slots.put(editedPerson.getName(), slot);
+        post(editedPerson, slot);
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    public BitSet allSlots() {
+        return liveSlots;
+    }
+
+    @Override
+    public BitSet slotsOf(SearchTerm term) {
+        requireNonNull(term);
+        switch (term.getAttribute()) {
+        case NAME:
+            BitSet named = new BitSet();
+            Integer slot = slots.get(term.getValue());
+            if (slot != null) {
+                named.set(slot);
+            }
+            return named;
+        case PHONE_SUFFIX:
+            BitSet matched = new BitSet();
+            phonesEndingWith(term).forEach(posting -> posting.addTo(matched));
+            return matched;
+        default:
+            Posting posting = postings.get(term);
+            return posting == null ? new BitSet() : posting.toBitSet();
+        }
+    }
+
+    @Override
+    public int cardinalityOf(SearchTerm term) {
+        requireNonNull(term);
+        switch (term.getAttribute()) {
+        case NAME:
+            return slots.containsKey(term.getValue()) ? 1 : 0;
+        case PHONE_SUFFIX:
+            return phonesEndingWith(term).stream().mapToInt(Posting::getCardinality).sum();
+        default:
+            Posting posting = postings.get(term);
+            return posting == null ? 0 : posting.getCardinality();
+        }
+    }
+
+    /**
+     * Returns the postings of the phone numbers ending with the digits of {@code suffixTerm}.
+     */
+    private Collection<Posting> phonesEndingWith(SearchTerm suffixTerm) {
+        String reversedSuffix = reverse((String) suffixTerm.getValue());
+        return reversedPhones.subMap(reversedSuffix, true, reversedSuffix + Character.MAX_VALUE, false).values();
+    }
+
+    private static String reverse(String digits) {
+        return new StringBuilder(digits).reverse().toString();
+    }
+
+    /**
+     * Returns a predicate that is true for persons currently matched by {@code query}.
+     * The matching slots are computed when the predicate is first tested, and again if the index is reset. Persons
+     * posted since then are tested against the query directly, so that a filter by the predicate follows later
+     * changes to the persons without evaluating the whole query again.
+     */
+    Predicate<Person> match(SearchQuery query) {
+        requireNonNull(query);
+        return new Predicate<>() {
+            private BitSet matches;
+            private long matchedAt;
+
+            @Override
+            public boolean test(Person person) {
+                Integer slot = slots.get(person.getName());
+                if (slot == null) {
+                    return false;
+                }
+                if (matches == null || matchedAt < resetChange) {
+                    matches = (BitSet) query.evaluate(MembershipIndex.this).clone();
+                    matchedAt = changeCount;
+                }
+                return slotChanges[slot] > matchedAt ? query.test(slotPersons[slot]) : matches.get(slot);
+            }
+        };
+    }
+
+    private void post(Person person, int slot) {
+        if (slot >= slotChanges.length) {
+            int capacity = Math.max(slot + 1, slotChanges.length * 2);
+            slotChanges = Arrays.copyOf(slotChanges, capacity);
+            slotPersons = Arrays.copyOf(slotPersons, capacity);
+        }
+        slotChanges[slot] = ++changeCount;
+        slotPersons[slot] = person;
+        termsOf(person).forEach(term -> postings.computeIfAbsent(term, unused -> new Posting()).add(slot));
+        reversedPhones.computeIfAbsent(reverse(person.getPhone().value), unused -> new Posting()).add(slot);
+    }
+
+    private void unpost(Person person, int slot) {
+        termsOf(person).forEach(term -> removeSlot(postings, term, slot));
+        removeSlot(reversedPhones, reverse(person.getPhone().value), slot);
+    }
+
+    private static <K> void removeSlot(Map<K, Posting> index, K key, int slot) {
+        Posting posting = index.get(key);
+        if (posting != null && posting.remove(slot) && posting.getCardinality() == 0) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns the terms that {@code person} is posted under.
+     */
+    private static List<SearchTerm> termsOf(Person person) {
+        List<SearchTerm> terms = new ArrayList<>();
+        person.getModules().forEach(module -> terms.add(SearchTerm.module(module)));
+        person.getTutorials().forEach(tutorial -> terms.add(SearchTerm.tutorial(tutorial)));
+        person.getTags().forEach(tag -> terms.add(SearchTerm.tag(tag)));
+        terms.add(SearchTerm.phone(person.getPhone()));
+        terms.add(SearchTerm.email(person.getEmail()));
+        terms.add(SearchTerm.emailDomain(person.getEmail().getDomain()));
+        terms.add(SearchTerm.studentNumber(person.getStudentNumber()));
+        if (person.getTelegram() != null) {
+            terms.add(SearchTerm.telegram(person.getTelegram()));
+        }
+        return terms;
+    }
+
+    /**
+     * The slots of the persons matched by one term, and how many there are.
+     *
+     * Slots are kept in a hash set while there are few of them, and in a {@code BitSet} once there are many, so
+     * that the many postings holding a single person, such as those of email addresses, stay small.
+     */
+    private static class Posting {
+        private static final int DENSE_THRESHOLD = 64;
+
+        private Set<Integer> sparseSlots = new HashSet<>();
+        private BitSet denseSlots;
+        private int cardinality = 0;
+
+        int getCardinality() {
+            return cardinality;
+        }
+
+        boolean contains(int slot) {
+            return denseSlots == null ? sparseSlots.contains(slot) : denseSlots.get(slot);
+        }
+
+        /**
+         * Adds {@code slot}, returning false if it is already in this posting.
+         */
+        boolean add(int slot) {
+            if (contains(slot)) {
+                return false;
+            }
+            if (denseSlots != null) {
+                denseSlots.set(slot);
+            } else if (sparseSlots.size() < DENSE_THRESHOLD) {
+                sparseSlots.add(slot);
+            } else {
+                denseSlots = new BitSet();
+                sparseSlots.forEach(denseSlots::set);
+                denseSlots.set(slot);
+                sparseSlots = null;
+            }
+            cardinality++;
+            return true;
+        }
+
+        /**
+         * Removes {@code slot}, returning false if it is not in this posting.
+         */
+        boolean remove(int slot) {
+            if (!contains(slot)) {
+                return false;
+            }
+            if (denseSlots == null) {
+                sparseSlots.remove(slot);
+            } else {
+                denseSlots.clear(slot);
+            }
+            cardinality--;
+            return true;
+        }
+
+        /**
+         * Returns the slots of this posting. The returned set must not be modified.
+         */
+        BitSet toBitSet() {
+            if (denseSlots != null) {
+                return denseSlots;
+            }
+            BitSet slots = new BitSet();
+            addTo(slots);
+            return slots;
+        }
+
+        /**
+         * Adds the slots of this posting to {@code result}.
+         */
+        void addTo(BitSet result) {
+            if (denseSlots == null) {
+                sparseSlots.forEach(result::set);
+            } else {
+                result.or(denseSlots);
+            }
+        }
+    }
+}
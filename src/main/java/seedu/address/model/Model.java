@@ -1,14 +1,20 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.module.Module;
+import seedu.address.model.person.NameKeyword;
+import seedu.address.model.person.NameMatches;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.search.SearchQuery;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
 
@@ -90,8 +96,63 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders it by
+     * {@code order}. Persons that {@code order} ranks equal keep their order in the address book.
+     * Updating the filter with {@link #updateFilteredPersonList(Predicate)} restores the address book order.
+     * @throws NullPointerException if {@code predicate} or {@code order} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order);
+
+    /**
+     * Returns the persons whose name contains a word matching any of {@code keywords}, answered from the
+     * address book's name index.
+     */
+    NameMatches getNameMatches(List<NameKeyword> keywords);
+
+    /**
+     * Returns the version of the address book data. The version increases with every change to the address book, so
+     * the data is unchanged for as long as the version stays the same.
+     */
+    long getVersion();
+
+    /**
+     * Starts a batch of changes to the persons in the model. Until the matching {@link #commitBatch()}, changes to
+     * persons and to the filter of the filtered person list are not seen by the filtered person list or its
+     * listeners. Batches may be nested; only the outermost batch is committed.
+     */
+    void beginBatch();
+
+    /**
+     * Commits the batch started by the matching {@link #beginBatch()}. When the outermost batch is committed, the
+     * filtered person list is updated with a single change to the persons and at most one change of filter.
+     */
+    void commitBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()} without committing it, as when the changes it
+     * makes fail partway through. When the outermost batch ends, the address book is restored to its state when
+     * that batch began, and the filter of the filtered person list is left as it was.
+     */
+    void abortBatch();
+
+    /**
+     * Returns the persons in the address book with the given {@code studentNumber}.
+     */
+    List<Person> getPersonsWith(StudentNumber studentNumber);
+
+    /**
+     * Returns a predicate that is true for persons matched by {@code query}, answered from the address book's
+     * membership index.
+     */
+    Predicate<Person> getSearchPredicate(SearchQuery query);
+
     void addModule(Module module);
 
+    /**
+     * Deletes the given module and its tutorials, and removes every person in the address book from them.
+     * The module must exist in the address book.
+     */
     void deleteModule(Module module);
 
     boolean hasModule(Module module);
@@ -100,10 +161,20 @@ public interface Model {
 
     void addTutorial(Tutorial tutorial);
 
+    /**
+     * Deletes the given tutorial, and removes every person in the address book from it.
+     * The tutorial must exist in the address book.
+     */
     void deleteTutorial(Tutorial tutorial);
 
     boolean hasTutorial(Tutorial tutorial);
 
+    /**
+     * Returns the tutorial in the address book with the same module code and tutorial name as {@code tutorial},
+     * if any. The returned tutorial carries the details, such as the time, that were stored with it.
+     */
+    Optional<Tutorial> findTutorial(Tutorial tutorial);
+
     ObservableList<Tutorial> getTutorialList();
 
     void addAssignment(Assignment assignment);
@@ -114,11 +185,25 @@ public interface Model {
 
     ObservableList<Assignment> getAssignmentList();
 
-    void addAttendanceTag(Tag tag);
+    /**
+     * Records that {@code person} attended {@code lesson}.
+     * The attendance must not already be recorded.
+     */
+    void markAttendance(Person person, Tag lesson);
 
-    void deleteAttendanceTag(Tag tag);
+    /**
+     * Removes the attendance of {@code person} for {@code lesson}.
+     * The attendance must already be recorded.
+     */
+    void unmarkAttendance(Person person, Tag lesson);
 
-    boolean hasAttendanceTag(Tag tag);
+    /**
+     * Returns true if {@code person} is recorded to have attended {@code lesson}.
+     */
+    boolean hasAttendance(Person person, Tag lesson);
 
-    List<Tag> getAttendanceTagsList();
+    /**
+     * Returns the lessons {@code person} is recorded to have attended, in the order the lessons were first recorded.
+     */
+    List<String> getAttendedLessons(Person person);
 }
@@ -4,33 +4,56 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.module.Module;
+import seedu.address.model.person.NameKeyword;
+import seedu.address.model.person.NameMatches;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.search.SearchQuery;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.util.VersionedCache;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * Every change to the address book increases a version number. The results of search and find queries are cached
+ * by query, and reused as long as the address book is still at the version they were computed at.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int QUERY_CACHE_CAPACITY = 64;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Module> modules;
     private final FilteredList<Tutorial> tutorials;
     private final FilteredList<Assignment> assignments;
-    private List<Tag> attendanceTags;
+    private int batchDepth;
+    private boolean isBatchAborted;
+    private Predicate<Person> pendingPredicate;
+    private Comparator<Person> pendingOrder;
+    private long version;
+    private final VersionedCache<SearchQuery, Predicate<Person>> searchResults =
+            new VersionedCache<>(QUERY_CACHE_CAPACITY);
+    private final VersionedCache<Set<NameKeyword>, NameMatches> nameMatches =
+            new VersionedCache<>(QUERY_CACHE_CAPACITY);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -43,10 +66,10 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         modules = new FilteredList<>(this.addressBook.getModuleList());
         tutorials = new FilteredList<>(this.addressBook.getTutorialList());
         assignments = new FilteredList<>(this.addressBook.getAssignmentList());
-        attendanceTags = this.addressBook.getAttendanceTagsList();
     }
 
     public ModelManager() {
@@ -93,6 +116,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        version++;
     }
 
     @Override
@@ -109,11 +133,13 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        version++;
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        version++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -122,6 +148,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        version++;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -132,13 +159,117 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        setPersonFilter(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order) {
+        requireAllNonNull(predicate, order);
+        setPersonFilter(predicate, order);
+    }
+
+    /**
+     * Filters the filtered person list by {@code predicate} and orders it by {@code order}, or by the address book
+     * order if {@code order} is null. Deferred until the end of the current batch, if any.
+     * Nothing is refiltered if the list is already filtered by the same predicate and order, as happens when a
+     * query is repeated and answered from the query cache.
+     */
+    private void setPersonFilter(Predicate<Person> predicate, Comparator<Person> order) {
+        if (batchDepth > 0) {
+            pendingPredicate = predicate;
+            pendingOrder = order;
+            return;
+        }
+        if (predicate == filteredPersons.getPredicate() && order == sortedPersons.getComparator()) {
+            return;
+        }
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(order);
+    }
+
+    @Override
+    public NameMatches getNameMatches(List<NameKeyword> keywords) {
+        requireNonNull(keywords);
+        return nameMatches.get(new HashSet<>(keywords), version, addressBook::getNameMatches);
+    }
+
+    @Override
+    public void beginBatch() {
+        batchDepth++;
+        addressBook.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        assert batchDepth > 0 : "commitBatch called without a matching beginBatch";
+        addressBook.commitBatch();
+        endBatch();
+    }
+
+    @Override
+    public void abortBatch() {
+        assert batchDepth > 0 : "abortBatch called without a matching beginBatch";
+        addressBook.abortBatch();
+        isBatchAborted = true;
+        // the address book is restored to an earlier state, so results cached during the batch no longer hold
+        version++;
+        endBatch();
+    }
+
+    /**
+     * Applies the filter requested during the outermost batch when it ends, unless the batch was aborted.
+     */
+    private void endBatch() {
+        if (--batchDepth > 0) {
+            return;
+        }
+
+        Predicate<Person> predicate = pendingPredicate;
+        Comparator<Person> order = pendingOrder;
+        pendingPredicate = null;
+        pendingOrder = null;
+        if (isBatchAborted) {
+            isBatchAborted = false;
+        } else if (predicate != null) {
+            setPersonFilter(predicate, order);
+        }
+    }
+
+    @Override
+    public List<Person> getPersonsWith(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return addressBook.getPersonsWith(studentNumber);
+    }
+
+    @Override
+    public Predicate<Person> getSearchPredicate(SearchQuery query) {
+        requireNonNull(query);
+        return searchResults.get(query, version, addressBook::getSearchPredicate);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of search and find queries answered from the query cache.
+     */
+    public int getQueryCacheHits() {
+        return searchResults.getHits() + nameMatches.getHits();
+    }
+
+    /**
+     * Returns the number of search and find queries that had to be evaluated against the address book.
+     */
+    public int getQueryCacheMisses() {
+        return searchResults.getMisses() + nameMatches.getMisses();
     }
 
     //=========== Module Management =========================================================================
@@ -146,11 +277,13 @@ public class ModelManager implements Model {
     @Override
     public void addModule(Module module) {
         addressBook.addModule(module);
+        version++;
     }
 
     @Override
     public void deleteModule(Module module) {
         addressBook.removeModule(module);
+        version++;
     }
 
     @Override
@@ -173,11 +306,13 @@ public class ModelManager implements Model {
     @Override
     public void addTutorial(Tutorial tutorial) {
         addressBook.addTutorial(tutorial);
+        version++;
     }
 
     @Override
     public void deleteTutorial(Tutorial tutorial) {
         addressBook.removeTutorial(tutorial);
+        version++;
     }
 
     @Override
@@ -186,6 +321,12 @@ public class ModelManager implements Model {
         return addressBook.hasTutorial(tutorial);
     }
 
+    @Override
+    public Optional<Tutorial> findTutorial(Tutorial tutorial) {
+        requireNonNull(tutorial);
+        return addressBook.getTutorial(tutorial.getModuleCode(), tutorial.getTutName());
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
      * {@code versionedAddressBook}
@@ -200,11 +341,13 @@ public class ModelManager implements Model {
     @Override
     public void addAssignment(Assignment assignment) {
         addressBook.addAssignment(assignment);
+        version++;
     }
 
     @Override
     public void deleteAssignment(Assignment assignment) {
         addressBook.removeAssignment(assignment);
+        version++;
     }
 
     @Override
@@ -225,23 +368,29 @@ public class ModelManager implements Model {
     // others
 
     @Override
-    public void addAttendanceTag(Tag tag) {
-        addressBook.addAttendanceTag(tag);
+    public void markAttendance(Person person, Tag lesson) {
+        requireAllNonNull(person, lesson);
+        addressBook.markAttendance(person.getStudentNumber(), lesson.tagName);
+        version++;
     }
 
     @Override
-    public void deleteAttendanceTag(Tag tag) {
-        addressBook.deleteAttendanceTag(tag);
+    public void unmarkAttendance(Person person, Tag lesson) {
+        requireAllNonNull(person, lesson);
+        addressBook.unmarkAttendance(person.getStudentNumber(), lesson.tagName);
+        version++;
     }
 
     @Override
-    public boolean hasAttendanceTag(Tag tag) {
-        return addressBook.hasAttendanceTag(tag);
+    public boolean hasAttendance(Person person, Tag lesson) {
+        requireAllNonNull(person, lesson);
+        return addressBook.hasAttendance(person.getStudentNumber(), lesson.tagName);
     }
 
     @Override
-    public List<Tag> getAttendanceTagsList() {
-        return attendanceTags;
+    public List<String> getAttendedLessons(Person person) {
+        requireNonNull(person);
+        return addressBook.getAttendedLessons(person.getStudentNumber());
     }
 
     @Override
@@ -259,7 +408,7 @@ public class ModelManager implements Model {
 
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && modules.equals(otherModelManager.modules)
                 && tutorials.equals(otherModelManager.tutorials);
     }
@@ -0,0 +1,139 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameKeyword;
+import seedu.address.model.person.NameMatches;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.BkTree;
+
+/**
+ * An inverted index from each case-folded word of a person's {@code Name} to the names containing it.
+ *
+ * Since a person's identity is its name, the names found for a set of words identify the matching persons, and
+ * remain correct for as long as those persons keep their names.
+ *
+ * Besides the postings, the index keeps the words in sorted order, so that the words starting with a prefix are
+ * a range of them, and in a {@code BkTree} by edit distance, so that the words within a few typos of a keyword
+ * are found without comparing the keyword against every word. Words are not removed from the tree; words that
+ * no name contains any more have no posting and are skipped.
+ *
+ * The index also counts its changes and records the change at which each name was indexed, so that the matches of
+ * a search can tell the names indexed after they were looked up.
+ */
+class NameTokenIndex implements PersonIndex {
+
+    private final Map<String, Set<Name>> postings = new HashMap<>();
+    private final NavigableSet<String> sortedWords = new TreeSet<>();
+    private final BkTree<String> wordTree = new BkTree<>(StringUtil::editDistance);
+    private final Map<Name, Long> nameChanges = new HashMap<>();
+    private long changeCount = 0;
+
+    @Override
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        sortedWords.clear();
+        wordTree.clear();
+        nameChanges.clear();
+        persons.forEach(this::add);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        nameChanges.put(name, ++changeCount);
+        for (String word : name.getFoldedWords()) {
+            postings.computeIfAbsent(word, this::newPosting).add(name);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        nameChanges.remove(name);
+        for (String word : name.getFoldedWords()) {
+            Set<Name> posting = postings.get(word);
+            if (posting != null) {
+                posting.remove(name);
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                    sortedWords.remove(word);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        if (!target.getName().equals(editedPerson.getName())) {
+            remove(target);
+            add(editedPerson);
+        }
+    }
+
+    /**
+     * Returns the matches of a search for the names that contain a word matching any of {@code keywords}.
+     * Names indexed after this call are matched against the keywords by the returned matches themselves.
+     */
+    NameMatches matchNames(Collection<NameKeyword> keywords) {
+        long matchedAt = changeCount;
+        return new NameMatches(keywords, match(keywords), name -> nameChanges.getOrDefault(name, 0L) > matchedAt);
+    }
+
+    /**
+     * Returns the names that contain a word matching any of {@code keywords}, each mapped to the smallest distance
+     * between one of its words and a keyword it matches.
+     *
+     * @see NameKeyword#distanceTo(String)
+     */
+    Map<Name, Integer> match(Collection<NameKeyword> keywords) {
+        requireNonNull(keywords);
+        Map<Name, Integer> matches = new HashMap<>();
+        for (NameKeyword keyword : keywords) {
+            switch (keyword.getMode()) {
+            case PREFIX:
+                String prefix = keyword.getWord();
+                for (String word : sortedWords.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+                    addMatches(matches, word, word.length() - prefix.length());
+                }
+                break;
+            case FUZZY:
+                wordTree.search(keyword.getWord(), keyword.getMaxDistance()).forEach((word, distance) ->
+                        addMatches(matches, word, distance));
+                break;
+            default:
+                addMatches(matches, keyword.getWord(), 0);
+                break;
+            }
+        }
+        return matches;
+    }
+
+    private Set<Name> newPosting(String word) {
+        sortedWords.add(word);
+        wordTree.add(word);
+        return new HashSet<>();
+    }
+
+    private void addMatches(Map<Name, Integer> matches, String word, int distance) {
+        for (Name name : postings.getOrDefault(word, Set.of())) {
+            matches.merge(name, distance, Math::min);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index over the persons of an {@code AddressBook}, kept up to date as persons are added, edited and removed.
+ */
+interface PersonIndex {
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    void reset(List<Person> persons);
+
+    /**
+     * Indexes {@code person}.
+     */
+    void add(Person person);
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person);
+
+    /**
+     * Replaces {@code target} in the index with {@code editedPerson}, which has the same identity or replaces
+     * {@code target} in the address book.
+     */
+    void replace(Person target, Person editedPerson);
+}
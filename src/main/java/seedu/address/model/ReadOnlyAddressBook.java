@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Person;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.UniqueField;
 import seedu.address.model.tutorial.Tutorial;
 
 /**
@@ -34,5 +37,13 @@ public interface ReadOnlyAddressBook {
 
     ObservableList<Assignment> getAssignmentList();
 
-    List<Tag> getAttendanceTagsList();
+    /**
+     * Returns an unmodifiable map from each student number with recorded attendance to the lessons attended.
+     */
+    Map<StudentNumber, List<String>> getAttendanceRecords();
+
+    /**
+     * Returns the fields that are kept unique across the persons list, in addition to the identity of a person.
+     */
+    Set<UniqueField> getUniqueFields();
 }
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
+
+/**
+ * A hash index from each {@code StudentNumber} to the persons that have it, so that a person can be looked up by
+ * student number in constant time. A student number is normally held by one person only.
+ */
+class StudentNumberIndex implements PersonIndex {
+
+    private final Map<StudentNumber, List<Person>> persons = new HashMap<>();
+
+    @Override
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons.clear();
+        persons.forEach(this::add);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        persons.computeIfAbsent(person.getStudentNumber(), unused -> new ArrayList<>(1)).add(person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        List<Person> holders = persons.get(person.getStudentNumber());
+        if (holders != null && holders.remove(person) && holders.isEmpty()) {
+            persons.remove(person.getStudentNumber());
+        }
+    }
+
+    @Override
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Returns the persons with {@code studentNumber}.
+     */
+    List<Person> get(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return Collections.unmodifiableList(persons.getOrDefault(studentNumber, Collections.emptyList()));
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.assignment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Assignment's title in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -17,6 +19,8 @@ public class Title {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Validator VALIDATOR = Validator.ofCharacters(1, Validator::isAlphanumeric,
+            c -> Validator.isAlphanumeric(c) || c == ' ');
 
     public final String fullTitle;
 
@@ -35,7 +39,7 @@ public class Title {
      * Returns true if a given string is a valid title.
      */
     public static boolean isValidTitle(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
     }
 
 
@@ -3,8 +3,12 @@ package seedu.address.model.assignment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +23,9 @@ import seedu.address.model.assignment.exceptions.DuplicateAssignmentException;
  * UniqueAssignmentList. However, the removal of a assignment uses Assignment#equals(Object) so
  * as to ensure that the assignment with exactly the same fields will be removed.
  *
+ * Since an assignment's identity is its {@code Title}, the list also keeps a title-keyed index of its assignments,
+ * so that identity checks do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Assignment#isSameAssignment(Assignment)
@@ -28,15 +35,14 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
     private final ObservableList<Assignment> internalList = FXCollections.observableArrayList();
     private final ObservableList<Assignment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
-
-
+    private final Map<Title, Assignment> assignmentsByTitle = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent assignment as the given argument.
      */
     public boolean contains(Assignment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAssignment);
+        return assignmentsByTitle.containsKey(toCheck.getTitle());
     }
 
     /**
@@ -48,6 +54,7 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
         if (contains(toAdd)) {
             throw new DuplicateAssignmentException();
         }
+        assignmentsByTitle.put(toAdd.getTitle(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -69,6 +76,8 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
             throw new DuplicateAssignmentException();
         }
 
+        assignmentsByTitle.remove(target.getTitle());
+        assignmentsByTitle.put(editedAssignment.getTitle(), editedAssignment);
         internalList.set(index, editedAssignment);
     }
 
@@ -81,11 +90,14 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
         if (!internalList.remove(toRemove)) {
             throw new AssignmentNotFoundException();
         }
+        assignmentsByTitle.remove(toRemove.getTitle());
     }
 
     public void setAssignments(UniqueAssignmentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        assignmentsByTitle.clear();
+        assignmentsByTitle.putAll(replacement.assignmentsByTitle);
     }
 
     /**
@@ -99,6 +111,10 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
         }
 
         internalList.setAll(assignments);
+        assignmentsByTitle.clear();
+        for (Assignment assignment : assignments) {
+            assignmentsByTitle.put(assignment.getTitle(), assignment);
+        }
     }
 
     /**
@@ -142,11 +158,10 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
      * Returns true if {@code assignments} contains only unique assignments.
      */
     private boolean assignmentsAreUnique(List<Assignment> assignments) {
-        for (int i = 0; i < assignments.size() - 1; i++) {
-            for (int j = i + 1; j < assignments.size(); j++) {
-                if (assignments.get(i).isSameAssignment(assignments.get(j))) {
-                    return false;
-                }
+        Set<Title> titles = new HashSet<>();
+        for (Assignment assignment : assignments) {
+            if (!titles.add(assignment.getTitle())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,188 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.StudentNumber;
+
+/**
+ * Records which lessons each student has attended.
+ *
+ * The ledger is a student-by-lesson bit matrix: every lesson name is given a column the first time it is marked,
+ * and every student has a row of bits over those columns. Marking, unmarking and querying a single attendance
+ * are therefore constant-time operations.
+ */
+public class AttendanceLedger {
+
+    private final Map<StudentNumber, BitSet> rows = new LinkedHashMap<>();
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final List<String> lessons = new ArrayList<>();
+
+    /**
+     * Records that {@code studentNumber} attended {@code lesson}.
+     * Returns false if the attendance was already recorded.
+     */
+    public boolean mark(StudentNumber studentNumber, String lesson) {
+        requireAllNonNull(studentNumber, lesson);
+        int column = columnOf(lesson);
+        BitSet row = rows.computeIfAbsent(studentNumber, unused -> new BitSet());
+        if (row.get(column)) {
+            return false;
+        }
+        row.set(column);
+        return true;
+    }
+
+    /**
+     * Removes the attendance of {@code studentNumber} for {@code lesson}.
+     * Returns false if no such attendance was recorded.
+     */
+    public boolean unmark(StudentNumber studentNumber, String lesson) {
+        requireAllNonNull(studentNumber, lesson);
+        if (!isMarked(studentNumber, lesson)) {
+            return false;
+        }
+        BitSet row = rows.get(studentNumber);
+        row.clear(columns.get(lesson));
+        if (row.isEmpty()) {
+            rows.remove(studentNumber);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code studentNumber} attended {@code lesson}.
+     */
+    public boolean isMarked(StudentNumber studentNumber, String lesson) {
+        requireAllNonNull(studentNumber, lesson);
+        Integer column = columns.get(lesson);
+        BitSet row = rows.get(studentNumber);
+        return column != null && row != null && row.get(column);
+    }
+
+    /**
+     * Returns the lessons attended by {@code studentNumber}, in the order the lessons were first recorded.
+     */
+    public List<String> getLessons(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        BitSet row = rows.get(studentNumber);
+        if (row == null) {
+            return Collections.emptyList();
+        }
+        List<String> attended = new ArrayList<>(row.cardinality());
+        row.stream().forEach(column -> attended.add(lessons.get(column)));
+        return attended;
+    }
+
+    /**
+     * Removes every attendance recorded for {@code studentNumber}.
+     */
+    public void removeStudent(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        rows.remove(studentNumber);
+    }
+
+    /**
+     * Moves every attendance recorded for {@code from} to {@code to}.
+     */
+    public void moveStudent(StudentNumber from, StudentNumber to) {
+        requireAllNonNull(from, to);
+        BitSet row = rows.remove(from);
+        if (row == null) {
+            return;
+        }
+        rows.merge(to, row, (existing, moved) -> {
+            existing.or(moved);
+            return existing;
+        });
+    }
+
+    /**
+     * Replaces the contents of this ledger with {@code records}, a map from each student to its attended lessons.
+     */
+    public void setRecords(Map<StudentNumber, ? extends Collection<String>> records) {
+        requireNonNull(records);
+        rows.clear();
+        columns.clear();
+        lessons.clear();
+        records.forEach((studentNumber, attended) -> attended.forEach(lesson -> mark(studentNumber, lesson)));
+    }
+
+    /**
+     * Replaces the contents of this ledger with a copy of the records of {@code replacement}.
+     */
+    public void setRecords(AttendanceLedger replacement) {
+        requireNonNull(replacement);
+        rows.clear();
+        replacement.rows.forEach((studentNumber, row) -> rows.put(studentNumber, (BitSet) row.clone()));
+        columns.clear();
+        columns.putAll(replacement.columns);
+        lessons.clear();
+        lessons.addAll(replacement.lessons);
+    }
+
+    /**
+     * Returns an unmodifiable map from each student with a recorded attendance to the lessons it attended.
+     */
+    public Map<StudentNumber, List<String>> asRecords() {
+        Map<StudentNumber, List<String>> records = new LinkedHashMap<>();
+        rows.keySet().forEach(studentNumber -> records.put(studentNumber, getLessons(studentNumber)));
+        return Collections.unmodifiableMap(records);
+    }
+
+    private int columnOf(String lesson) {
+        return columns.computeIfAbsent(lesson, unused -> {
+            lessons.add(lesson);
+            return lessons.size() - 1;
+        });
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceLedger)) {
+            return false;
+        }
+
+        AttendanceLedger otherLedger = (AttendanceLedger) other;
+        return asLessonSets().equals(otherLedger.asLessonSets());
+    }
+
+    @Override
+    public int hashCode() {
+        return asLessonSets().hashCode();
+    }
+
+    /**
+     * Returns the records of this ledger with the lessons of each student as a set, since two ledgers may have
+     * recorded the same lessons in a different order.
+     */
+    private Map<StudentNumber, Set<String>> asLessonSets() {
+        Map<StudentNumber, Set<String>> records = new HashMap<>();
+        rows.keySet().forEach(studentNumber -> records.put(studentNumber, new HashSet<>(getLessons(studentNumber))));
+        return records;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("records", asRecords())
+                .toString();
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Validator;
+import seedu.address.model.util.Interner;
+
 /**
  * Represents a Module in the address book.
  */
@@ -12,6 +15,8 @@ public class Module {
             "Module codes should only contain alphanumeric characters and it should be at least 5 characters";
     public static final String VALIDATION_REGEX = "[a-zA-Z0-9]*";
     public static final int VALIDATION_LENGTH = 5;
+    private static final Validator VALIDATOR = Validator.ofCharacters(VALIDATION_LENGTH, Validator::isAlphanumeric);
+    private static final Interner<String, Module> INTERNER = new Interner<>(Module::new);
     private final String moduleCode;
 
     /**
@@ -24,12 +29,22 @@ public class Module {
         this.moduleCode = moduleCode;
     }
 
+    /**
+     * Returns the shared {@code Module} with the given module code.
+     * @param moduleCode A valid module code.
+     */
+    public static Module of(String moduleCode) {
+        requireNonNull(moduleCode);
+        checkArgument(isValidModule(moduleCode), MESSAGE_CONSTRAINTS);
+        return INTERNER.intern(moduleCode);
+    }
+
     /**
      * Returns if a given string is a valid module
      * @param test A module code to be tested.
      */
     public static boolean isValidModule(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() >= VALIDATION_LENGTH;
+        return VALIDATOR.isValid(test);
     }
 
     /**
@@ -3,8 +3,11 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,6 +16,7 @@ import seedu.address.model.module.exceptions.ModuleNotFoundException;
 
 /**
  * A list of modules that enforces uniqueness between its elements and does not allow nulls.
+ * Modules are also indexed by module code, so that identity checks and lookups do not need to scan the list.
  * Supports a minimal set of list operations.
  *
  * @see Module#isSameModule(Module)
@@ -23,13 +27,22 @@ public class UniqueModuleList implements Iterable<Module> {
 
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Module> modulesByCode = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameModule);
+        return modulesByCode.containsKey(toCheck.getModuleCode());
+    }
+
+    /**
+     * Returns the module in the list with the given {@code moduleCode}, if any.
+     */
+    public Optional<Module> get(String moduleCode) {
+        requireNonNull(moduleCode);
+        return Optional.ofNullable(modulesByCode.get(moduleCode));
     }
 
     /**
@@ -41,6 +54,7 @@ public class UniqueModuleList implements Iterable<Module> {
         if (contains(toAdd)) {
             throw new DuplicateModuleException();
         }
+        modulesByCode.put(toAdd.getModuleCode(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -53,6 +67,7 @@ public class UniqueModuleList implements Iterable<Module> {
         if (!internalList.remove(toRemove)) {
             throw new ModuleNotFoundException();
         }
+        modulesByCode.remove(toRemove.getModuleCode());
     }
 
     /**
@@ -63,6 +78,10 @@ public class UniqueModuleList implements Iterable<Module> {
         requireAllNonNull(modules);
 
         internalList.setAll(modules);
+        modulesByCode.clear();
+        for (Module module : modules) {
+            modulesByCode.putIfAbsent(module.getModuleCode(), module);
+        }
     }
 
     public ObservableList<Module> asUnmodifiableObservableList() {
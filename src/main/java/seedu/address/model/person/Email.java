@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -30,6 +33,8 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Validator VALIDATOR = Validator.ofRegex(VALIDATION_REGEX);
+    private static final Validator DOMAIN_VALIDATOR = Validator.ofRegex("^" + DOMAIN_REGEX);
 
     public final String value;
 
@@ -48,7 +53,21 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
+    }
+
+    /**
+     * Returns if a given string is a valid domain of an email.
+     */
+    public static boolean isValidDomain(String test) {
+        return DOMAIN_VALIDATOR.isValid(test);
+    }
+
+    /**
+     * Returns the domain of this email, the part after the '@', in lower case.
+     */
+    public String getDomain() {
+        return StringUtil.foldCase(value.substring(value.lastIndexOf('@') + 1));
     }
 
     @Override
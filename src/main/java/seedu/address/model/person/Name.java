@@ -3,6 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -17,8 +25,13 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Validator VALIDATOR = Validator.ofCharacters(1, Validator::isAlphanumeric,
+            c -> Validator.isAlphanumeric(c) || c == ' ');
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
 
     public final String fullName;
+    private List<String> words;
 
     /**
      * Constructs a {@code Name}.
@@ -35,9 +48,23 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
     }
 
+    /**
+     * Returns the words of this name, case-folded with {@link StringUtil#foldCase(String)}.
+     * The words are split out once and kept, since a name is immutable.
+     */
+    public List<String> getFoldedWords() {
+        if (words == null) {
+            List<String> folded = new ArrayList<>();
+            for (String word : WORD_SEPARATOR.split(fullName)) {
+                folded.add(StringUtil.foldCase(word));
+            }
+            words = Collections.unmodifiableList(folded);
+        }
+        return words;
+    }
 
     @Override
     public String toString() {
@@ -1,25 +1,59 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ *
+ * @see NameKeyword
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<NameKeyword> nameKeywords = new ArrayList<>();
+    private final Set<String> exactWords = new HashSet<>();
 
+    /**
+     * Constructs a predicate that matches names containing any of {@code keywords}, ignoring case.
+     * Every keyword must be valid as declared in {@link NameKeyword#isValidKeyword(String)}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            NameKeyword nameKeyword = NameKeyword.parse(keyword.trim());
+            nameKeywords.add(nameKeyword);
+            if (nameKeyword.getMode() == NameKeyword.Mode.EXACT) {
+                exactWords.add(nameKeyword.getWord());
+            }
+        }
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public List<NameKeyword> getNameKeywords() {
+        return nameKeywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        for (String word : person.getName().getFoldedWords()) {
+            if (exactWords.contains(word)) {
+                return true;
+            }
+            for (NameKeyword nameKeyword : nameKeywords) {
+                if (nameKeyword.getMode() != NameKeyword.Mode.EXACT && nameKeyword.distanceTo(word) >= 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
@@ -0,0 +1,142 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.Validator;
+
+/**
+ * Represents a keyword of a search by name, which matches a word of a name ignoring case.
+ * A keyword matches a word exactly, as a prefix of the word when it ends with {@value #PREFIX_MARKER}
+ * (e.g. {@code Ber*}), or with a few typos when it starts with {@value #FUZZY_MARKER} (e.g. {@code ~Bernce}).
+ * Guarantees: immutable; is valid as declared in {@link #isValidKeyword(String)}
+ */
+public class NameKeyword {
+
+    public static final String PREFIX_MARKER = "*";
+    public static final String FUZZY_MARKER = "~";
+
+    public static final String MESSAGE_CONSTRAINTS = "Keywords should be single words. A keyword ending with "
+            + PREFIX_MARKER + " matches names with a word starting with it, and a keyword starting with "
+            + FUZZY_MARKER + " also matches names with a word that differs from it by a few letters.";
+
+    public static final String VALIDATION_REGEX = "~[^\\s~*]+|[^\\s~*]+\\*?";
+    private static final Validator VALIDATOR = Validator.ofRegex(VALIDATION_REGEX);
+
+    /** Words of up to this length may differ from a fuzzy keyword by one letter, and longer words by two. */
+    private static final int SHORT_WORD_LENGTH = 4;
+
+    /**
+     * How a keyword matches the words of a name.
+     */
+    public enum Mode {
+        EXACT, PREFIX, FUZZY
+    }
+
+    private final Mode mode;
+    private final String word;
+
+    private NameKeyword(Mode mode, String word) {
+        this.mode = mode;
+        this.word = word;
+    }
+
+    /**
+     * Returns the keyword represented by {@code keyword}.
+     *
+     * @param keyword A valid keyword.
+     */
+    public static NameKeyword parse(String keyword) {
+        requireNonNull(keyword);
+        checkArgument(isValidKeyword(keyword), MESSAGE_CONSTRAINTS);
+        if (keyword.startsWith(FUZZY_MARKER)) {
+            return new NameKeyword(Mode.FUZZY, StringUtil.foldCase(keyword.substring(FUZZY_MARKER.length())));
+        }
+        if (keyword.endsWith(PREFIX_MARKER)) {
+            return new NameKeyword(Mode.PREFIX,
+                    StringUtil.foldCase(keyword.substring(0, keyword.length() - PREFIX_MARKER.length())));
+        }
+        return new NameKeyword(Mode.EXACT, StringUtil.foldCase(keyword));
+    }
+
+    /**
+     * Returns true if a given string is a valid keyword.
+     */
+    public static boolean isValidKeyword(String test) {
+        return VALIDATOR.isValid(test);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the word of this keyword without its marker, case-folded with {@link StringUtil#foldCase(String)}.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * Returns the largest edit distance at which a word still matches this keyword.
+     */
+    public int getMaxDistance() {
+        if (mode != Mode.FUZZY) {
+            return 0;
+        }
+        return word.length() <= SHORT_WORD_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Returns how far the case-folded {@code foldedWord} is from this keyword, or -1 if it does not match.
+     * An exact match is 0 away, a word starting with a prefix keyword is as far as the number of letters it adds
+     * to the prefix, and a word matching a fuzzy keyword is as far as its edit distance from the keyword.
+     */
+    public int distanceTo(String foldedWord) {
+        requireNonNull(foldedWord);
+        switch (mode) {
+        case PREFIX:
+            return foldedWord.startsWith(word) ? foldedWord.length() - word.length() : -1;
+        case FUZZY:
+            if (Math.abs(foldedWord.length() - word.length()) > getMaxDistance()) {
+                return -1;
+            }
+            int distance = StringUtil.editDistance(word, foldedWord);
+            return distance <= getMaxDistance() ? distance : -1;
+        default:
+            return foldedWord.equals(word) ? 0 : -1;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameKeyword)) {
+            return false;
+        }
+
+        NameKeyword otherKeyword = (NameKeyword) other;
+        return mode == otherKeyword.mode && word.equals(otherKeyword.word);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, word);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("mode", mode)
+                .add("word", word)
+                .toString();
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The names matched by a search by name, each with how far it is from the keywords it matched.
+ * Tests that a {@code Person}'s name is one of the matched names.
+ *
+ * The matched names are looked up when the search is made. Names that were not known then, such as those of
+ * persons added or renamed since, are matched against the keywords directly, so that a filter by the matches
+ * follows later changes to the persons.
+ */
+public class NameMatches implements Predicate<Person> {
+
+    private final Set<NameKeyword> keywords;
+    private final Map<Name, Integer> distances;
+    private final Predicate<Name> isNewName;
+    private final Comparator<Person> byDistance;
+
+    /**
+     * Constructs the matches of a search for {@code keywords} from each matched name to its distance from the
+     * keywords. {@code isNewName} tells the names that were not known when the matched names were looked up.
+     */
+    public NameMatches(Collection<NameKeyword> keywords, Map<Name, Integer> distances, Predicate<Name> isNewName) {
+        requireAllNonNull(keywords, distances, isNewName);
+        this.keywords = Set.copyOf(keywords);
+        this.distances = new HashMap<>(distances);
+        this.isNewName = isNewName;
+        this.byDistance = Comparator.comparingInt(person -> distanceOf(person.getName()));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return distanceOf(person.getName()) != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns a comparator that orders persons by how closely their names matched, closest first.
+     * Persons whose names did not match are ordered last. The same comparator is returned on every call.
+     */
+    public Comparator<Person> byDistance() {
+        return byDistance;
+    }
+
+    /**
+     * Returns the smallest distance between a word of {@code name} and a keyword it matches, or
+     * {@code Integer.MAX_VALUE} if it matches none.
+     */
+    private int distanceOf(Name name) {
+        if (!isNewName.test(name)) {
+            return distances.getOrDefault(name, Integer.MAX_VALUE);
+        }
+        int closest = Integer.MAX_VALUE;
+        for (String word : name.getFoldedWords()) {
+            for (NameKeyword keyword : keywords) {
+                int distance = keyword.distanceTo(word);
+                if (distance >= 0) {
+                    closest = Math.min(closest, distance);
+                }
+            }
+        }
+        return closest;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameMatches)) {
+            return false;
+        }
+
+        NameMatches otherNameMatches = (NameMatches) other;
+        return keywords.equals(otherNameMatches.keywords) && distances.equals(otherNameMatches.distances);
+    }
+
+    @Override
+    public int hashCode() {
+        return distances.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).add("distances", distances).toString();
+    }
+}
@@ -1,49 +1,66 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.module.Module;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.util.SortedArraySet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Person {
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final Comparator<Module> MODULE_ORDER = Comparator.comparing(Module::getModuleCode);
+    private static final Comparator<Tutorial> TUTORIAL_ORDER = Comparator.comparing(Tutorial::getModuleCode)
+            .thenComparing(Tutorial::getTutName);
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Module> modules = new HashSet<>();
-    private final Set<Tutorial> tutorials = new HashSet<>();
+    private final SortedArraySet<Tag> tags;
+    private final SortedArraySet<Module> modules;
+    private final SortedArraySet<Tutorial> tutorials;
     private final StudentNumber studentNumber;
 
     private final Telegram telegram;
 
+    private int hash;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Set<Tag> tags,
                   Set<Module> modules, Set<Tutorial> tutorials, StudentNumber studentNumber,
                   Telegram telegram) {
+        this(name, phone, email, SortedArraySet.copyOf(tags, TAG_ORDER), SortedArraySet.copyOf(modules, MODULE_ORDER),
+                SortedArraySet.copyOf(tutorials, TUTORIAL_ORDER), studentNumber, telegram);
+    }
+
+    private Person(Name name, Phone phone, Email email, SortedArraySet<Tag> tags,
+                   SortedArraySet<Module> modules, SortedArraySet<Tutorial> tutorials, StudentNumber studentNumber,
+                   Telegram telegram) {
         requireAllNonNull(name, phone, email, tags, studentNumber);
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.tags.addAll(tags);
-        this.modules.addAll(modules);
-        this.tutorials.addAll(tutorials);
+        this.tags = tags;
+        this.modules = modules;
+        this.tutorials = tutorials;
         this.studentNumber = studentNumber;
         this.telegram = telegram;
     }
@@ -65,7 +82,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -73,7 +90,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Module> getModules() {
-        return Collections.unmodifiableSet(modules);
+        return modules;
     }
 
     /**
@@ -81,7 +98,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tutorial> getTutorials() {
-        return Collections.unmodifiableSet(tutorials);
+        return tutorials;
     }
 
     public Set<String> getUiOfModulesAndTutorials() {
@@ -110,6 +127,27 @@ public class Person {
     }
 
 
+    /**
+     * Returns this person without {@code module} and without any tutorial of {@code module}.
+     * Returns this person itself if it has neither.
+     */
+    public Person withoutModule(Module module) {
+        requireNonNull(module);
+        String moduleCode = module.getModuleCode();
+        return new Builder(this)
+                .removeModule(module)
+                .removeTutorialsIf(tutorial -> tutorial.getModuleCode().equals(moduleCode))
+                .buildIfChanged(this);
+    }
+
+    /**
+     * Returns this person without {@code tutorial}, or this person itself if it does not have {@code tutorial}.
+     */
+    public Person withoutTutorial(Tutorial tutorial) {
+        requireNonNull(tutorial);
+        return new Builder(this).removeTutorial(tutorial).buildIfChanged(this);
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -151,8 +189,11 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, tags, modules, tutorials, studentNumber, telegram);
+        // a person is immutable, so the hash only needs to be computed once
+        if (hash == 0) {
+            hash = Objects.hash(name, phone, email, tags, modules, tutorials, studentNumber, telegram);
+        }
+        return hash;
     }
 
     @Override
@@ -168,4 +209,155 @@ public class Person {
                 .add("telegram", telegram)
                 .toString();
     }
+
+    /**
+     * Builds a {@code Person} from an existing person, sharing every field that is not changed.
+     * Adding or removing a single module, tutorial or tag only copies the small array backing that set.
+     */
+    public static class Builder {
+        private Name name;
+        private Phone phone;
+        private Email email;
+        private SortedArraySet<Tag> tags;
+        private SortedArraySet<Module> modules;
+        private SortedArraySet<Tutorial> tutorials;
+        private StudentNumber studentNumber;
+        private Telegram telegram;
+
+        /**
+         * Creates a {@code Builder} starting from the details of {@code source}.
+         */
+        public Builder(Person source) {
+            requireNonNull(source);
+            name = source.name;
+            phone = source.phone;
+            email = source.email;
+            tags = source.tags;
+            modules = source.modules;
+            tutorials = source.tutorials;
+            studentNumber = source.studentNumber;
+            telegram = source.telegram;
+        }
+
+        /**
+         * Sets the {@code Name} of the person being built.
+         */
+        public Builder withName(Name name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Phone} of the person being built.
+         */
+        public Builder withPhone(Phone phone) {
+            this.phone = phone;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Email} of the person being built.
+         */
+        public Builder withEmail(Email email) {
+            this.email = email;
+            return this;
+        }
+
+        /**
+         * Sets the {@code StudentNumber} of the person being built.
+         */
+        public Builder withStudentNumber(StudentNumber studentNumber) {
+            this.studentNumber = studentNumber;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Telegram} of the person being built.
+         */
+        public Builder withTelegram(Telegram telegram) {
+            this.telegram = telegram;
+            return this;
+        }
+
+        /**
+         * Replaces the tags of the person being built with {@code tags}.
+         */
+        public Builder withTags(Set<Tag> tags) {
+            this.tags = SortedArraySet.copyOf(tags, TAG_ORDER);
+            return this;
+        }
+
+        /**
+         * Adds {@code tag} to the person being built.
+         */
+        public Builder addTag(Tag tag) {
+            tags = tags.with(tag);
+            return this;
+        }
+
+        /**
+         * Removes {@code tag} from the person being built.
+         */
+        public Builder removeTag(Tag tag) {
+            tags = tags.without(tag);
+            return this;
+        }
+
+        /**
+         * Adds {@code module} to the person being built.
+         */
+        public Builder addModule(Module module) {
+            modules = modules.with(module);
+            return this;
+        }
+
+        /**
+         * Removes {@code module} from the person being built.
+         */
+        public Builder removeModule(Module module) {
+            modules = modules.without(module);
+            return this;
+        }
+
+        /**
+         * Adds {@code tutorial} to the person being built.
+         */
+        public Builder addTutorial(Tutorial tutorial) {
+            tutorials = tutorials.with(tutorial);
+            return this;
+        }
+
+        /**
+         * Removes {@code tutorial} from the person being built.
+         */
+        public Builder removeTutorial(Tutorial tutorial) {
+            tutorials = tutorials.without(tutorial);
+            return this;
+        }
+
+        /**
+         * Removes every tutorial matching {@code filter} from the person being built.
+         */
+        public Builder removeTutorialsIf(Predicate<Tutorial> filter) {
+            tutorials = tutorials.withoutIf(filter);
+            return this;
+        }
+
+        /**
+         * Returns the person with the details given to this builder.
+         */
+        public Person build() {
+            return new Person(name, phone, email, tags, modules, tutorials, studentNumber, telegram);
+        }
+
+        /**
+         * Returns {@code source} if this builder did not change any of its details, or the built person otherwise.
+         */
+        private Person buildIfChanged(Person source) {
+            boolean isUnchanged = name == source.name && phone == source.phone && email == source.email
+                    && tags == source.tags && modules == source.modules && tutorials == source.tutorials
+                    && studentNumber == source.studentNumber && telegram == source.telegram;
+            return isUnchanged ? source : build();
+        }
+    }
 }
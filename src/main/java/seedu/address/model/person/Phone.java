@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,6 +15,12 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    public static final String MESSAGE_DIGITS_CONSTRAINTS =
+            "Partial phone numbers should only contain numbers, and it should not be blank";
+    public static final String DIGITS_REGEX = "\\d+";
+    private static final Validator VALIDATOR = Validator.ofCharacters(3, Validator::isDigit);
+    private static final Validator DIGITS_VALIDATOR = Validator.ofCharacters(1, Validator::isDigit);
+
     public final String value;
 
     /**
@@ -30,7 +38,14 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
+    }
+
+    /**
+     * Returns true if a given string is a valid part of a phone number.
+     */
+    public static boolean isValidDigits(String test) {
+        return DIGITS_VALIDATOR.isValid(test);
     }
 
     @Override
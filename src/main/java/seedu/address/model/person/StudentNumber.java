@@ -4,6 +4,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Person's student number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentNumber(String)}
@@ -14,6 +16,9 @@ public class StudentNumber {
     public static final String MESSAGE_CONSTRAINTS =
             "Student number should only contain alphanumeric characters and spaces, and it should not be blank";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9]+$";
+    /** The student number given to persons added without one. */
+    public static final String PLACEHOLDER = "PlaceholderStudentNumber";
+    private static final Validator VALIDATOR = Validator.ofCharacters(1, Validator::isAlphanumeric);
     public final String value;
 
     /**
@@ -31,7 +36,14 @@ public class StudentNumber {
      * Returns true if a given string is a valid Student number.
      */
     public static boolean isValidStudentNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
+    }
+
+    /**
+     * Returns true if this is the placeholder given to persons added without a student number.
+     */
+    public boolean isPlaceholder() {
+        return value.equals(PLACEHOLDER);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Person's telegram handle in the telegram book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTelegram(String)}
@@ -16,6 +18,9 @@ public class Telegram {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    /** The telegram handle given to persons added without one. */
+    public static final String PLACEHOLDER = "PlaceholderTelegramHandle";
+    private static final Validator VALIDATOR = Validator.ofRegex(VALIDATION_REGEX);
 
     public final String value;
 
@@ -34,7 +39,14 @@ public class Telegram {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidTelegram(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
+    }
+
+    /**
+     * Returns true if this is the placeholder given to persons added without a telegram handle.
+     */
+    public boolean isPlaceholder() {
+        return value.equals(PLACEHOLDER);
     }
 
     @Override
@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A field of a person that an address book can be configured to keep unique across its persons, in addition to the
+ * name that identifies a person. Values of a field are compared ignoring case, and persons without a value for the
+ * field never conflict. A person added without a student number or telegram handle is given a placeholder for it,
+ * which counts as having no value.
+ */
+public enum UniqueField {
+    STUDENT_NUMBER("student number", person -> person.getStudentNumber().isPlaceholder()
+            ? null : person.getStudentNumber().value),
+    EMAIL("email", person -> person.getEmail().value),
+    TELEGRAM("telegram handle", person -> person.getTelegram() == null || person.getTelegram().isPlaceholder()
+            ? null : person.getTelegram().value);
+
+    private final String description;
+    private final Function<Person, String> extractor;
+
+    UniqueField(String description, Function<Person, String> extractor) {
+        this.description = description;
+        this.extractor = extractor;
+    }
+
+    /**
+     * Returns the value of this field of {@code person}, or null if {@code person} has none or only a placeholder.
+     */
+    public String valueOf(Person person) {
+        return extractor.apply(person);
+    }
+
+    /**
+     * Returns the key under which {@code person} is indexed for this field, or null if {@code person} has no value
+     * for it. Persons with equal keys conflict.
+     */
+    public String keyOf(Person person) {
+        String value = valueOf(person);
+        return value == null ? null : StringUtil.foldCase(value);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
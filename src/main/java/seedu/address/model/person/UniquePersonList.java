@@ -1,13 +1,26 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +31,43 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is its {@code Name}, the list also keeps a name-keyed index of the position of every
+ * person in the backing list, so that identity checks and lookups of the person being replaced or removed do not
+ * need to scan the list.
+ *
+ * The list can also be configured to keep some other fields of its persons unique, with {@link #setUniqueFields(Set)}.
+ * For each such field it keeps a hash index from the values of the field to the person holding them, so that adding
+ * or updating a person checks for a conflicting value without scanning the list.
+ *
+ * Changes can be batched between {@link #beginBatch()} and {@link #commitBatch()}: changes made during a batch are
+ * kept aside, and the observable list is updated with one change when the batch is committed. Persons replaced
+ * during a batch are recorded by position, so a batch that only edits a few persons costs no more than those edits.
+ * Batches may be nested, in which case the changes are published when the outermost batch is committed. A batch
+ * ended with {@link #abortBatch()} is discarded instead, leaving the list as it was when the batch began.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    public static final String MESSAGE_IDENTITY_CHANGED = "A rewrite must not change the identity of a person.";
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private final Map<UniqueField, Map<String, Person>> owners = new EnumMap<>(UniqueField.class);
+    private Batch batch;
+    private int batchDepth;
+    private boolean isBatchAborted;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,7 +79,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        checkFieldsAvailable(toAdd, null);
+        addFields(toAdd);
+        positions.put(toAdd.getName(), currentList().size());
+        currentList().add(toAdd);
     }
 
     /**
@@ -56,7 +93,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -64,8 +101,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        checkFieldsAvailable(editedPerson, target);
 
-        internalList.set(index, editedPerson);
+        removeFields(target);
+        addFields(editedPerson);
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
+        currentList().set(index, editedPerson);
     }
 
     /**
@@ -74,27 +116,158 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        List<Person> persons = currentList();
+        persons.remove(index);
+        removeFields(toRemove);
+        positions.remove(toRemove.getName());
+        for (int i = index; i < persons.size(); i++) {
+            positions.put(persons.get(i).getName(), i);
+        }
     }
 
+    /**
+     * Replaces every person in the list with the result of applying {@code rewriter} to it, as a single change to
+     * the list. {@code rewriter} must not change the identity of any person, and should return the same person if
+     * it has nothing to change.
+     *
+     * @return the persons in the list before the rewrite, in the same order as the list.
+     */
+    public List<Person> replaceAll(UnaryOperator<Person> rewriter) {
+        requireNonNull(rewriter);
+        List<Person> original = new ArrayList<>(currentList());
+        List<Person> rewritten = new ArrayList<>(original.size());
+        boolean isChanged = false;
+        for (Person person : original) {
+            Person rewrittenPerson = rewriter.apply(person);
+            requireNonNull(rewrittenPerson);
+            checkArgument(person.isSamePerson(rewrittenPerson), MESSAGE_IDENTITY_CHANGED);
+            isChanged |= rewrittenPerson != person;
+            rewritten.add(rewrittenPerson);
+        }
+
+        if (isChanged) {
+            checkUnique(rewritten, owners.keySet());
+            replaceContents(rewritten);
+            indexFields();
+        }
+        return original;
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, and keeps the fields that
+     * {@code replacement} keeps unique.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.currentList());
+        positions.clear();
+        positions.putAll(replacement.positions);
+        owners.clear();
+        replacement.owners.forEach((field, fieldOwners) -> owners.put(field, new HashMap<>(fieldOwners)));
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, or persons sharing the value of a field kept unique.
      */
     public void setPersons(List<Person> persons) {
+        setPersons(persons, owners.keySet());
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons} and keeps {@code uniqueFields} unique from now on.
+     * {@code persons} must not contain duplicate persons, or persons sharing the value of one of
+     * {@code uniqueFields}. Checking this takes time linear in the number of persons.
+     */
+    public void setPersons(List<Person> persons, Set<UniqueField> uniqueFields) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        requireAllNonNull(uniqueFields);
+        checkUnique(persons, uniqueFields);
+
+        setIndexedFields(uniqueFields);
+        replaceContents(persons);
+        reindex();
+        indexFields();
+    }
+
+    /**
+     * Keeps {@code uniqueFields} unique in this list from now on.
+     * The persons already in the list must not share the value of any of {@code uniqueFields}.
+     */
+    public void setUniqueFields(Set<UniqueField> uniqueFields) {
+        requireAllNonNull(uniqueFields);
+        checkUnique(currentList(), uniqueFields);
+
+        setIndexedFields(uniqueFields);
+        indexFields();
+    }
+
+    /**
+     * Returns the fields kept unique in this list, other than the name.
+     */
+    public Set<UniqueField> getUniqueFields() {
+        Set<UniqueField> fields = EnumSet.noneOf(UniqueField.class);
+        fields.addAll(owners.keySet());
+        return Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Starts a batch of changes. Until {@link #commitBatch()} is called, changes are not seen by listeners of the
+     * observable list. A batch started during another batch is part of it.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            batch = new Batch();
+        }
+    }
+
+    /**
+     * Ends the current batch of changes. When the outermost batch is committed, its changes are applied to the
+     * observable list as a single change. Does nothing if no batch has been started.
+     */
+    public void commitBatch() {
+        if (batchDepth == 0 || --batchDepth > 0) {
+            return;
+        }
+        endBatch();
+    }
+
+    /**
+     * Ends the current batch of changes without committing it. When the outermost batch ends, every change made
+     * since it began is discarded, so aborting a nested batch also discards the batches containing it.
+     * Does nothing if no batch has been started.
+     */
+    public void abortBatch() {
+        if (batchDepth == 0) {
+            return;
         }
+        isBatchAborted = true;
+        if (--batchDepth > 0) {
+            return;
+        }
+        endBatch();
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Publishes the changes of the outermost batch, or discards them and rebuilds the indexes from the backing list
+     * if the batch was aborted.
+     */
+    private void endBatch() {
+        Batch ended = batch;
+        batch = null;
+        if (!isBatchAborted) {
+            ended.publish();
+            return;
+        }
+        isBatchAborted = false;
+        setIndexedFields(ended.uniqueFields);
+        reindex();
+        indexFields();
     }
 
     /**
@@ -106,7 +279,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return currentList().iterator();
     }
 
     @Override
@@ -121,30 +294,216 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return currentList().equals(otherUniquePersonList.currentList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return currentList().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return currentList().toString();
+    }
+
+    /**
+     * Returns the list that changes are made to: the working copy during a batch, or the backing list otherwise.
+     */
+    private List<Person> currentList() {
+        return batch != null ? batch : internalList;
+    }
+
+    /**
+     * Replaces the contents of the list that changes are made to with {@code persons}.
+     */
+    private void replaceContents(List<Person> persons) {
+        if (batch != null) {
+            batch.setAll(persons);
+        } else {
+            internalList.setAll(persons);
+        }
+    }
+
+    /**
+     * Returns the position of the person that is equal to {@code person} in the backing list, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getName());
+        if (index == null || !currentList().get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Rebuilds the position index from the backing list.
+     */
+    private void reindex() {
+        List<Person> persons = currentList();
+        positions.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Replaces the fields that have a value index with {@code uniqueFields}, leaving the new indexes empty.
+     */
+    private void setIndexedFields(Set<UniqueField> uniqueFields) {
+        Set<UniqueField> fields = EnumSet.noneOf(UniqueField.class);
+        fields.addAll(uniqueFields);
+        owners.clear();
+        fields.forEach(field -> owners.put(field, new HashMap<>()));
+    }
+
+    /**
+     * Rebuilds the value indexes of the unique fields from the backing list.
+     */
+    private void indexFields() {
+        owners.values().forEach(Map::clear);
+        currentList().forEach(this::addFields);
+    }
+
+    private void addFields(Person person) {
+        owners.forEach((field, fieldOwners) -> {
+            String key = field.keyOf(person);
+            if (key != null) {
+                fieldOwners.put(key, person);
+            }
+        });
+    }
+
+    private void removeFields(Person person) {
+        owners.forEach((field, fieldOwners) -> {
+            String key = field.keyOf(person);
+            if (key != null) {
+                fieldOwners.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Throws a {@code DuplicateFieldException} if {@code person} has the same value for a unique field as a person
+     * in the list other than {@code replaced}, which may be null.
+     */
+    private void checkFieldsAvailable(Person person, Person replaced) {
+        for (Map.Entry<UniqueField, Map<String, Person>> entry : owners.entrySet()) {
+            String key = entry.getKey().keyOf(person);
+            Person owner = key == null ? null : entry.getValue().get(key);
+            if (owner != null && !owner.equals(replaced)) {
+                throw new DuplicateFieldException(entry.getKey(), owner);
+            }
+        }
+    }
+
+    /**
+     * Throws a {@code DuplicatePersonException} if {@code persons} contains duplicate persons, or a
+     * {@code DuplicateFieldException} if two of them share the value of one of {@code uniqueFields}.
+     */
+    private static void checkUnique(List<Person> persons, Set<UniqueField> uniqueFields) {
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        for (UniqueField field : uniqueFields) {
+            Map<String, Person> fieldOwners = new HashMap<>();
+            for (Person person : persons) {
+                String key = field.keyOf(person);
+                Person owner = key == null ? null : fieldOwners.putIfAbsent(key, person);
+                if (owner != null) {
+                    throw new DuplicateFieldException(field, owner);
+                }
+            }
+        }
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * The persons of the list as changed by the current batch.
+     * Persons replaced in place are recorded by position on top of the backing list. The backing list is only
+     * copied once a person is added or removed, or the whole list is replaced. The fields kept unique when the batch
+     * began are remembered, so that they can be restored if the batch is aborted.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private class Batch extends AbstractList<Person> {
+        private final Set<UniqueField> uniqueFields = getUniqueFields();
+        private final TreeMap<Integer, Person> replacements = new TreeMap<>();
+        private List<Person> copy;
+
+        @Override
+        public Person get(int index) {
+            if (copy != null) {
+                return copy.get(index);
+            }
+            Person replacement = replacements.get(index);
+            return replacement != null ? replacement : internalList.get(index);
+        }
+
+        @Override
+        public int size() {
+            return copy != null ? copy.size() : internalList.size();
+        }
+
+        @Override
+        public Person set(int index, Person person) {
+            if (copy != null) {
+                return copy.set(index, person);
+            }
+            Person replaced = get(index);
+            replacements.put(index, person);
+            return replaced;
+        }
+
+        @Override
+        public void add(int index, Person person) {
+            copyOnWrite().add(index, person);
+        }
+
+        @Override
+        public Person remove(int index) {
+            return copyOnWrite().remove(index);
+        }
+
+        void setAll(List<Person> persons) {
+            replacements.clear();
+            copy = new ArrayList<>(persons);
+        }
+
+        private List<Person> copyOnWrite() {
+            if (copy == null) {
+                copy = new ArrayList<>(internalList);
+                replacements.forEach(copy::set);
+                replacements.clear();
+            }
+            return copy;
+        }
+
+        /**
+         * Applies the changes of this batch to the backing list as a single change, if there are any.
+         */
+        void publish() {
+            if (copy != null && copy.size() != internalList.size()) {
+                internalList.setAll(copy);
+                return;
+            }
+            if (copy != null) {
+                for (int i = 0; i < copy.size(); i++) {
+                    replacements.put(i, copy.get(i));
                 }
             }
+            replacements.entrySet().removeIf(replacement
+                    -> replacement.getValue() == internalList.get(replacement.getKey()));
+
+            if (replacements.size() == 1) {
+                // a lone replacement is published as such, rather than as a replacement of the whole list
+                internalList.set(replacements.firstKey(), replacements.firstEntry().getValue());
+            } else if (!replacements.isEmpty()) {
+                List<Person> committed = new ArrayList<>(internalList);
+                replacements.forEach(committed::set);
+                internalList.setAll(committed);
+            }
         }
-        return true;
     }
 }
@@ -0,0 +1,14 @@
+package seedu.address.model.person.exceptions;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniqueField;
+
+/**
+ * Signals that the operation will result in two Persons sharing the value of a field that is configured to be unique.
+ */
+public class DuplicateFieldException extends DuplicatePersonException {
+    public DuplicateFieldException(UniqueField field, Person owner) {
+        super(String.format("The %1$s %2$s is already used by %3$s", field.getDescription(), field.valueOf(owner),
+                owner.getName()));
+    }
+}
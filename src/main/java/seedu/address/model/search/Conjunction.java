@@ -0,0 +1,104 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons matched by all of its operands.
+ *
+ * Positive operands are evaluated from the most selective up: the result starts as the slots of the operand
+ * estimated to match the fewest persons and is narrowed by the others. A term narrows it by probing its posting
+ * once per remaining slot, so a rare term combined with common ones only touches the rare term's persons.
+ * Negated operands are applied last by removing their slots.
+ */
+class Conjunction implements SearchQuery {
+
+    private final List<SearchQuery> operands;
+
+    Conjunction(List<? extends SearchQuery> operands) {
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public BitSet evaluate(SearchIndex index) {
+        List<SearchQuery> positives = new ArrayList<>();
+        List<SearchQuery> negatives = new ArrayList<>();
+        for (SearchQuery operand : operands) {
+            if (operand instanceof Negation) {
+                negatives.add(((Negation) operand).getOperand());
+            } else {
+                positives.add(operand);
+            }
+        }
+        positives.sort(Comparator.comparingInt(operand -> operand.estimateCardinality(index)));
+
+        BitSet result = (BitSet) (positives.isEmpty() ? index.allSlots() : positives.get(0).evaluate(index)).clone();
+        for (int i = 1; i < positives.size() && !result.isEmpty(); i++) {
+            SearchQuery operand = positives.get(i);
+            if (operand instanceof SearchTerm) {
+                retainSlots(result, index.slotsOf((SearchTerm) operand));
+            } else {
+                result.and(operand.evaluate(index));
+            }
+        }
+        for (int i = 0; i < negatives.size() && !result.isEmpty(); i++) {
+            result.andNot(negatives.get(i).evaluate(index));
+        }
+        return result;
+    }
+
+    /**
+     * Clears every slot of {@code result} that is not in {@code posting}, visiting only the slots of {@code result}.
+     */
+    private static void retainSlots(BitSet result, BitSet posting) {
+        for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+            if (!posting.get(slot)) {
+                result.clear(slot);
+            }
+        }
+    }
+
+    @Override
+    public int estimateCardinality(SearchIndex index) {
+        int estimate = index.size();
+        for (SearchQuery operand : operands) {
+            estimate = Math.min(estimate, operand.estimateCardinality(index));
+        }
+        return estimate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().allMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Conjunction)) {
+            return false;
+        }
+
+        Conjunction otherConjunction = (Conjunction) other;
+        return operands.equals(otherConjunction.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons matched by any of its operands, evaluated as the union of their slots.
+ */
+class Disjunction implements SearchQuery {
+
+    private final List<SearchQuery> operands;
+
+    Disjunction(List<? extends SearchQuery> operands) {
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public BitSet evaluate(SearchIndex index) {
+        BitSet result = new BitSet();
+        operands.forEach(operand -> result.or(operand.evaluate(index)));
+        return result;
+    }
+
+    @Override
+    public int estimateCardinality(SearchIndex index) {
+        long estimate = 0;
+        for (SearchQuery operand : operands) {
+            estimate += operand.estimateCardinality(index);
+        }
+        return (int) Math.min(estimate, index.size());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().anyMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Disjunction)) {
+            return false;
+        }
+
+        Disjunction otherDisjunction = (Disjunction) other;
+        return operands.equals(otherDisjunction.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons not matched by its operand, evaluated as the complement of its slots.
+ */
+class Negation implements SearchQuery {
+
+    private final SearchQuery operand;
+
+    Negation(SearchQuery operand) {
+        this.operand = operand;
+    }
+
+    SearchQuery getOperand() {
+        return operand;
+    }
+
+    @Override
+    public BitSet evaluate(SearchIndex index) {
+        BitSet result = (BitSet) index.allSlots().clone();
+        result.andNot(operand.evaluate(index));
+        return result;
+    }
+
+    @Override
+    public int estimateCardinality(SearchIndex index) {
+        return index.size();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Negation)) {
+            return false;
+        }
+
+        Negation otherNegation = (Negation) other;
+        return operand.equals(otherNegation.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+
+/**
+ * An index that a {@code SearchQuery} is evaluated against. Every person is identified by a slot number, and the
+ * persons matched by a term are the set of their slots.
+ */
+public interface SearchIndex {
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    int size();
+
+    /**
+     * Returns the slots of every person in the index. The returned set must not be modified.
+     */
+    BitSet allSlots();
+
+    /**
+     * Returns the slots of the persons matched by {@code term}. The returned set must not be modified.
+     */
+    BitSet slotsOf(SearchTerm term);
+
+    /**
+     * Returns the number of persons matched by {@code term}.
+     */
+    int cardinalityOf(SearchTerm term);
+}
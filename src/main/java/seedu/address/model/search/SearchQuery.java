@@ -0,0 +1,52 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A boolean combination of {@code SearchTerm}s, evaluated as set algebra over the slots of a {@code SearchIndex}.
+ * A query can also test a single person directly, without going through an index.
+ */
+public interface SearchQuery extends Predicate<Person> {
+
+    /**
+     * Returns the slots of the persons matched by this query. The returned set must not be modified.
+     */
+    BitSet evaluate(SearchIndex index);
+
+    /**
+     * Returns an upper bound on the number of persons matched by this query, computed without evaluating it.
+     */
+    int estimateCardinality(SearchIndex index);
+
+    /**
+     * Returns a query matching the persons matched by all of {@code operands}.
+     * A conjunction of no operands matches every person.
+     */
+    static SearchQuery and(List<? extends SearchQuery> operands) {
+        requireNonNull(operands);
+        return operands.size() == 1 ? operands.get(0) : new Conjunction(operands);
+    }
+
+    /**
+     * Returns a query matching the persons matched by any of {@code operands}.
+     * A disjunction of no operands matches nobody.
+     */
+    static SearchQuery or(List<? extends SearchQuery> operands) {
+        requireNonNull(operands);
+        return operands.size() == 1 ? operands.get(0) : new Disjunction(operands);
+    }
+
+    /**
+     * Returns a query matching the persons not matched by {@code operand}.
+     */
+    static SearchQuery not(SearchQuery operand) {
+        requireNonNull(operand);
+        return new Negation(operand);
+    }
+}
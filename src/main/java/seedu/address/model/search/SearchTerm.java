@@ -0,0 +1,202 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * A single condition of a search: that a person has a given name or contact detail, or belongs to a given module,
+ * tutorial or tag.
+ * Terms are the keys of the address book's search index, so equal terms select the same persons, and are the
+ * leaves of a {@code SearchQuery}.
+ */
+public class SearchTerm implements SearchQuery {
+
+    /**
+     * The attribute of a person that a {@code SearchTerm} tests.
+     */
+    public enum Attribute {
+        NAME,
+        MODULE,
+        TUTORIAL,
+        TAG,
+        PHONE,
+        PHONE_SUFFIX,
+        EMAIL,
+        EMAIL_DOMAIN,
+        TELEGRAM,
+        STUDENT_NUMBER
+    }
+
+    private final Attribute attribute;
+    private final Object value;
+
+    private SearchTerm(Attribute attribute, Object value) {
+        requireNonNull(value);
+        this.attribute = attribute;
+        this.value = value;
+    }
+
+    /**
+     * Returns a term matching the person named {@code name}.
+     */
+    public static SearchTerm name(Name name) {
+        return new SearchTerm(Attribute.NAME, name);
+    }
+
+    /**
+     * Returns a term matching the persons that take {@code module}.
+     */
+    public static SearchTerm module(Module module) {
+        return new SearchTerm(Attribute.MODULE, module);
+    }
+
+    /**
+     * Returns a term matching the persons in {@code tutorial}.
+     */
+    public static SearchTerm tutorial(Tutorial tutorial) {
+        return new SearchTerm(Attribute.TUTORIAL, tutorial);
+    }
+
+    /**
+     * Returns a term matching the persons tagged with {@code tag}.
+     */
+    public static SearchTerm tag(Tag tag) {
+        return new SearchTerm(Attribute.TAG, tag);
+    }
+
+    /**
+     * Returns a term matching the persons with the phone number {@code phone}.
+     */
+    public static SearchTerm phone(Phone phone) {
+        return new SearchTerm(Attribute.PHONE, phone);
+    }
+
+    /**
+     * Returns a term matching the persons whose phone number ends with {@code digits}.
+     */
+    public static SearchTerm phoneSuffix(String digits) {
+        checkArgument(Phone.isValidDigits(digits), Phone.MESSAGE_DIGITS_CONSTRAINTS);
+        return new SearchTerm(Attribute.PHONE_SUFFIX, digits);
+    }
+
+    /**
+     * Returns a term matching the persons with the email address {@code email}.
+     */
+    public static SearchTerm email(Email email) {
+        return new SearchTerm(Attribute.EMAIL, email);
+    }
+
+    /**
+     * Returns a term matching the persons whose email address is in {@code domain}, ignoring case.
+     */
+    public static SearchTerm emailDomain(String domain) {
+        checkArgument(Email.isValidDomain(domain), Email.MESSAGE_CONSTRAINTS);
+        return new SearchTerm(Attribute.EMAIL_DOMAIN, StringUtil.foldCase(domain));
+    }
+
+    /**
+     * Returns a term matching the persons with the telegram handle {@code telegram}.
+     */
+    public static SearchTerm telegram(Telegram telegram) {
+        return new SearchTerm(Attribute.TELEGRAM, telegram);
+    }
+
+    /**
+     * Returns a term matching the person with the student number {@code studentNumber}.
+     */
+    public static SearchTerm studentNumber(StudentNumber studentNumber) {
+        return new SearchTerm(Attribute.STUDENT_NUMBER, studentNumber);
+    }
+
+    public Attribute getAttribute() {
+        return attribute;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public BitSet evaluate(SearchIndex index) {
+        return index.slotsOf(this);
+    }
+
+    @Override
+    public int estimateCardinality(SearchIndex index) {
+        return index.cardinalityOf(this);
+    }
+
+    /**
+     * Tests {@code person} against this term directly, without going through an index.
+     */
+    @Override
+    public boolean test(Person person) {
+        switch (attribute) {
+        case NAME:
+            return person.getName().equals(value);
+        case MODULE:
+            return person.getModules().contains(value);
+        case TUTORIAL:
+            return person.getTutorials().contains(value);
+        case TAG:
+            return person.getTags().contains(value);
+        case PHONE:
+            return person.getPhone().equals(value);
+        case PHONE_SUFFIX:
+            return person.getPhone().value.endsWith((String) value);
+        case EMAIL:
+            return person.getEmail().equals(value);
+        case EMAIL_DOMAIN:
+            return person.getEmail().getDomain().equals(value);
+        case TELEGRAM:
+            return value.equals(person.getTelegram());
+        case STUDENT_NUMBER:
+            return person.getStudentNumber().equals(value);
+        default:
+            throw new AssertionError(attribute);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchTerm)) {
+            return false;
+        }
+
+        SearchTerm otherTerm = (SearchTerm) other;
+        return attribute == otherTerm.attribute && value.equals(otherTerm.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attribute, value);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("attribute", attribute)
+                .add("value", value)
+                .toString();
+    }
+}
@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.Validator;
 import seedu.address.model.module.Module;
+import seedu.address.model.util.Interner;
 
 /**
  * Represents a Tutorial in the address book.
@@ -12,6 +14,10 @@ import seedu.address.model.module.Module;
 public class Tutorial {
     /* Fields */
     public static final String TIME_FORMAT_REGEX = "\\b([1-9]|1[0-2])[APap][Mm]";
+    private static final Validator TIME_FORMAT_VALIDATOR = Validator.ofRegex(TIME_FORMAT_REGEX);
+    private static final Interner<Key, Tutorial> INTERNER = new Interner<>(key -> key.time == null
+            ? new Tutorial(Module.of(key.moduleCode), key.tutName)
+            : new Tutorial(Module.of(key.moduleCode), key.tutName, key.time));
     private Module module;
     private String tutName;
     private String time;
@@ -47,6 +53,33 @@ public class Tutorial {
         this.time = time;
     }
 
+    /**
+     * Returns the shared {@code Tutorial} with the given details, to find the actual tutorial in tutorial list.
+     * The shared tutorial may have a time, if it was first created with one.
+     * @param module Module tutorial belongs to.
+     * @param tutName Name of tutorial.
+     */
+    public static Tutorial of(Module module, String tutName) {
+        requireNonNull(module);
+        requireNonNull(tutName);
+        return INTERNER.intern(new Key(module.getModuleCode(), tutName, null));
+    }
+
+    /**
+     * Returns the shared {@code Tutorial} with the given details.
+     * If the shared tutorial of the module with {@code tutName} has another time, a tutorial of its own is returned.
+     * @param module Module tutorial belongs to.
+     * @param tutName Name of tutorial.
+     * @param time Time of tutorial.
+     */
+    public static Tutorial of(Module module, String tutName, String time) {
+        requireNonNull(module);
+        requireNonNull(tutName);
+        requireNonNull(time);
+        Tutorial tutorial = INTERNER.intern(new Key(module.getModuleCode(), tutName, time));
+        return time.equals(tutorial.time) ? tutorial : new Tutorial(tutorial.module, tutName, time);
+    }
+
     /* Methods */
 
     public String getModuleCode() {
@@ -109,7 +142,8 @@ public class Tutorial {
 
     @Override
     public int hashCode() {
-        return Objects.hash(module, tutName, time);
+        // time is not part of equals, so it must not be part of the hash either
+        return Objects.hash(module, tutName);
     }
 
     /**
@@ -129,7 +163,7 @@ public class Tutorial {
         String timePart = dateTimeParts[1];
 
         // checks if time is in correct format
-        if (!DayOfWeek.contains(dayPart) || !timePart.matches(Tutorial.TIME_FORMAT_REGEX)) {
+        if (!DayOfWeek.contains(dayPart) || !TIME_FORMAT_VALIDATOR.isValid(timePart)) {
             throw new IllegalArgumentException("incorrect format");
         }
 
@@ -166,4 +200,40 @@ public class Tutorial {
             return false;
         }
     }
+
+    /**
+     * The key of a shared tutorial: its module code and name, which are what {@link Tutorial#equals(Object)}
+     * compares. The time only gives the time of the tutorial created for a key that has no shared tutorial yet.
+     */
+    private static class Key {
+        private final String moduleCode;
+        private final String tutName;
+        private final String time;
+
+        Key(String moduleCode, String tutName, String time) {
+            this.moduleCode = moduleCode;
+            this.tutName = tutName;
+            this.time = time;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key otherKey = (Key) other;
+            return moduleCode.equals(otherKey.moduleCode) && tutName.equals(otherKey.tutName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(moduleCode, tutName);
+        }
+    }
 }
@@ -3,8 +3,15 @@ package seedu.address.model.tutorial;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,6 +20,8 @@ import seedu.address.model.tutorial.exceptions.TutorialNotFoundException;
 
 /**
  * A list of tutorials that enforces uniqueness between its elements and does not allow nulls.
+ * Tutorials are also indexed by module code and tutorial name, and grouped by module code, so that identity checks,
+ * lookups and removing the tutorials of a module do not need to scan the list.
  * Supports a minimal set of list operations.
  */
 public class UniqueTutorialList implements Iterable<Tutorial> {
@@ -21,13 +30,31 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
 
     private final ObservableList<Tutorial> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<List<String>, Tutorial> tutorialsByKey = new HashMap<>();
+    private final Map<String, Set<Tutorial>> tutorialsByModuleCode = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent tutorial as the given argument.
      */
     public boolean contains(Tutorial toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return tutorialsByKey.containsKey(keyOf(toCheck));
+    }
+
+    /**
+     * Returns the tutorial in the list with the given {@code moduleCode} and {@code tutName}, if any.
+     */
+    public Optional<Tutorial> get(String moduleCode, String tutName) {
+        requireAllNonNull(moduleCode, tutName);
+        return Optional.ofNullable(tutorialsByKey.get(Arrays.asList(moduleCode, tutName)));
+    }
+
+    /**
+     * Returns the tutorials in the list of the module with {@code moduleCode}, in the order they were added.
+     */
+    public List<Tutorial> getTutorialsOf(String moduleCode) {
+        requireNonNull(moduleCode);
+        return new ArrayList<>(tutorialsByModuleCode.getOrDefault(moduleCode, Set.of()));
     }
 
     /**
@@ -39,6 +66,7 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
         if (contains(toAdd)) {
             throw new DuplicateTutorialException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
@@ -51,6 +79,22 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
         if (!internalList.remove(toRemove)) {
             throw new TutorialNotFoundException();
         }
+        unindex(toRemove);
+    }
+
+    /**
+     * Removes all tutorials of the module with {@code moduleCode} from the list.
+     */
+    public void removeTutorialsOf(String moduleCode) {
+        requireNonNull(moduleCode);
+        Set<Tutorial> toRemove = tutorialsByModuleCode.remove(moduleCode);
+        if (toRemove == null) {
+            return;
+        }
+        for (Tutorial tutorial : toRemove) {
+            tutorialsByKey.remove(keyOf(tutorial));
+        }
+        internalList.removeAll(toRemove);
     }
 
     /**
@@ -61,6 +105,13 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
         requireAllNonNull(tutorials);
 
         internalList.setAll(tutorials);
+        tutorialsByKey.clear();
+        tutorialsByModuleCode.clear();
+        for (Tutorial tutorial : tutorials) {
+            if (!tutorialsByKey.containsKey(keyOf(tutorial))) {
+                index(tutorial);
+            }
+        }
     }
 
     public ObservableList<Tutorial> asUnmodifiableObservableList() {
@@ -96,4 +147,27 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
     public String toString() {
         return internalList.toString();
     }
+
+    private void index(Tutorial tutorial) {
+        tutorialsByKey.put(keyOf(tutorial), tutorial);
+        tutorialsByModuleCode.computeIfAbsent(tutorial.getModuleCode(), unused -> new LinkedHashSet<>()).add(tutorial);
+    }
+
+    private void unindex(Tutorial tutorial) {
+        tutorialsByKey.remove(keyOf(tutorial));
+        Set<Tutorial> tutorialsOfModule = tutorialsByModuleCode.get(tutorial.getModuleCode());
+        if (tutorialsOfModule != null) {
+            tutorialsOfModule.remove(tutorial);
+            if (tutorialsOfModule.isEmpty()) {
+                tutorialsByModuleCode.remove(tutorial.getModuleCode());
+            }
+        }
+    }
+
+    /**
+     * Returns the key identifying {@code tutorial} in the list: its module code and tutorial name.
+     */
+    private static List<String> keyOf(Tutorial tutorial) {
+        return Arrays.asList(tutorial.getModuleCode(), tutorial.getTutName());
+    }
 }
@@ -0,0 +1,106 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A Burkhard-Keller tree: a set of elements in a metric space that finds every element within a given distance
+ * of a query without comparing the query against all elements.
+ *
+ * Each child of a node is keyed by its distance to the node. By the triangle inequality, a search within
+ * {@code d} of a query that is {@code k} away from a node only needs to visit the children keyed {@code k - d}
+ * to {@code k + d}. Elements cannot be removed; callers that need removal rebuild the tree or ignore stale
+ * elements found by a search.
+ *
+ * @param <E> the type of elements in this tree
+ */
+public class BkTree<E> {
+
+    private final ToIntBiFunction<? super E, ? super E> metric;
+    private Node<E> root;
+
+    /**
+     * Creates an empty tree that measures distances with {@code metric}, which must be a metric: non-negative,
+     * zero only between equal elements, symmetric and satisfying the triangle inequality.
+     */
+    public BkTree(ToIntBiFunction<? super E, ? super E> metric) {
+        requireNonNull(metric);
+        this.metric = metric;
+    }
+
+    /**
+     * Adds {@code element} to the tree. Returns false if the tree already contains it.
+     */
+    public boolean add(E element) {
+        requireNonNull(element);
+        if (root == null) {
+            root = new Node<>(element);
+            return true;
+        }
+
+        Node<E> node = root;
+        while (true) {
+            int distance = metric.applyAsInt(element, node.element);
+            if (distance == 0) {
+                return false;
+            }
+            Node<E> child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node<>(element));
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns every element within {@code maxDistance} of {@code query}, mapped to its distance from the query.
+     */
+    public Map<E, Integer> search(E query, int maxDistance) {
+        requireNonNull(query);
+        Map<E, Integer> found = new LinkedHashMap<>();
+        if (root == null) {
+            return found;
+        }
+
+        Deque<Node<E>> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node<E> node = toVisit.pop();
+            int distance = metric.applyAsInt(query, node.element);
+            if (distance <= maxDistance) {
+                found.put(node.element, distance);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node<E> child = node.children.get(childDistance);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Removes all elements from the tree.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    private static class Node<E> {
+        private final E element;
+        private final Map<Integer, Node<E>> children = new HashMap<>();
+
+        private Node(E element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A registry of canonical instances of an immutable value type, so that equal values can share one instance.
+ * The canonical instance for a key is created by the factory the first time the key is interned.
+ *
+ * Canonical instances are only weakly held, so that a value stays interned only while something else, such as a
+ * person in the address book, still refers to it. Values that are only looked up, such as those in search queries
+ * and in rejected rows of an import, do not accumulate in a long-running session.
+ *
+ * @param <K> the type of the key identifying a value
+ * @param <V> the type of the interned value
+ */
+public class Interner<K, V> {
+
+    private final Map<K, CanonicalReference<K, V>> canonicalValues = new HashMap<>();
+    private final ReferenceQueue<V> clearedValues = new ReferenceQueue<>();
+    private final Function<K, V> factory;
+
+    /**
+     * Creates an {@code Interner} that creates the canonical value for a key using {@code factory}.
+     */
+    public Interner(Function<K, V> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it if there is no canonical value for {@code key} in use.
+     */
+    public synchronized V intern(K key) {
+        requireNonNull(key);
+        removeClearedValues();
+        CanonicalReference<K, V> reference = canonicalValues.get(key);
+        V value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            canonicalValues.put(key, new CanonicalReference<>(key, value, clearedValues));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical values held.
+     */
+    public synchronized int size() {
+        removeClearedValues();
+        return canonicalValues.size();
+    }
+
+    /**
+     * Forgets the keys of the canonical values that have been garbage collected.
+     */
+    private void removeClearedValues() {
+        for (Object cleared = clearedValues.poll(); cleared != null; cleared = clearedValues.poll()) {
+            CanonicalReference<?, ?> reference = (CanonicalReference<?, ?>) cleared;
+            canonicalValues.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a canonical value that remembers the key it was interned under.
+     */
+    private static class CanonicalReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        CanonicalReference(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set backed by a sorted array, for the small sets of modules, tutorials and tags held by a person.
+ *
+ * Elements are kept sorted by a comparator that must be consistent with {@code equals}, so membership is a binary
+ * search and two sets with the same elements iterate in the same order. Edits return a new set that shares nothing
+ * but the elements, and the hash code is computed once.
+ * All mutators inherited from {@code Set} throw {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of elements in this set
+ */
+public final class SortedArraySet<E> extends AbstractSet<E> {
+
+    private final Object[] elements;
+    private final Comparator<? super E> comparator;
+    private int hash;
+
+    private SortedArraySet(Object[] elements, Comparator<? super E> comparator) {
+        this.elements = elements;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns a set of the elements of {@code source} ordered by {@code comparator}.
+     * If {@code source} is already a {@code SortedArraySet} with the same comparator, it is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> SortedArraySet<E> copyOf(Collection<? extends E> source, Comparator<? super E> comparator) {
+        requireAllNonNull(source, comparator);
+        if (source instanceof SortedArraySet && ((SortedArraySet<?>) source).comparator == comparator) {
+            return (SortedArraySet<E>) source;
+        }
+
+        Object[] sorted = source.toArray();
+        Arrays.sort(sorted, (first, second) -> comparator.compare((E) first, (E) second));
+        int size = 0;
+        for (Object element : sorted) {
+            requireNonNull(element);
+            if (size == 0 || comparator.compare((E) sorted[size - 1], (E) element) != 0) {
+                sorted[size++] = element;
+            }
+        }
+        return new SortedArraySet<>(Arrays.copyOf(sorted, size), comparator);
+    }
+
+    /**
+     * Returns a set with the elements of this set and {@code element}, or this set if it already contains it.
+     */
+    public SortedArraySet<E> with(E element) {
+        requireNonNull(element);
+        int index = indexOf(element);
+        if (index >= 0) {
+            return this;
+        }
+
+        int insertionPoint = -index - 1;
+        Object[] updated = new Object[elements.length + 1];
+        System.arraycopy(elements, 0, updated, 0, insertionPoint);
+        updated[insertionPoint] = element;
+        System.arraycopy(elements, insertionPoint, updated, insertionPoint + 1, elements.length - insertionPoint);
+        return new SortedArraySet<>(updated, comparator);
+    }
+
+    /**
+     * Returns a set with the elements of this set except {@code element}, or this set if it does not contain it.
+     */
+    public SortedArraySet<E> without(E element) {
+        requireNonNull(element);
+        int index = indexOf(element);
+        if (index < 0) {
+            return this;
+        }
+
+        Object[] updated = new Object[elements.length - 1];
+        System.arraycopy(elements, 0, updated, 0, index);
+        System.arraycopy(elements, index + 1, updated, index, elements.length - index - 1);
+        return new SortedArraySet<>(updated, comparator);
+    }
+
+    /**
+     * Returns a set with the elements of this set that do not match {@code filter},
+     * or this set if no element matches.
+     */
+    @SuppressWarnings("unchecked")
+    public SortedArraySet<E> withoutIf(Predicate<? super E> filter) {
+        requireNonNull(filter);
+        Object[] kept = new Object[elements.length];
+        int size = 0;
+        for (Object element : elements) {
+            if (!filter.test((E) element)) {
+                kept[size++] = element;
+            }
+        }
+        return size == elements.length ? this : new SortedArraySet<>(Arrays.copyOf(kept, size), comparator);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            E element = (E) o;
+            return indexOf(element) >= 0;
+        } catch (ClassCastException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int indexOf(E element) {
+        int low = 0;
+        int high = elements.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = comparator.compare((E) elements[mid], element);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof SortedArraySet && ((SortedArraySet<?>) other).comparator == comparator) {
+            return Arrays.equals(elements, ((SortedArraySet<?>) other).elements);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = super.hashCode();
+        }
+        return hash;
+    }
+}
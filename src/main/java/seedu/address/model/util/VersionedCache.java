@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of values computed from data that carries a version number, which must increase whenever the
+ * data changes. A cached value is only reused while the version it was computed at is still current, and the
+ * least recently used value is evicted once the cache is full.
+ *
+ * @param <K> the type of the key identifying a value
+ * @param <V> the type of the cached values
+ */
+public class VersionedCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private int hits = 0;
+    private int misses = 0;
+
+    /**
+     * Creates an empty cache holding at most {@code capacity} values.
+     */
+    public VersionedCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value for {@code key} computed at {@code version}, computing it with {@code compute} if it is
+     * not cached or was computed at an earlier version.
+     */
+    public V get(K key, long version, Function<? super K, ? extends V> compute) {
+        requireAllNonNull(key, compute);
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.version == version) {
+            hits++;
+            return entry.value;
+        }
+
+        misses++;
+        V value = compute.apply(key);
+        requireNonNull(value);
+        entries.put(key, new Entry<>(version, value));
+        return value;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to compute their value.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    private static class Entry<V> {
+        private final long version;
+        private final V value;
+
+        private Entry(long version, V value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
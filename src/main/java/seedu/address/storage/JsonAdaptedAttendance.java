@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of the attendance of one student in the {@code AttendanceLedger}.
+ */
+class JsonAdaptedAttendance {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Attendance's %s field is missing!";
+
+    private final String studentNumber;
+    private final List<String> lessons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAttendance} with the given attendance details.
+     */
+    @JsonCreator
+    public JsonAdaptedAttendance(@JsonProperty("studentNumber") String studentNumber,
+                                 @JsonProperty("lessons") List<String> lessons) {
+        this.studentNumber = studentNumber;
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+    }
+
+    /**
+     * Converts the lessons attended by {@code studentNumber} into this class for Jackson use.
+     */
+    public JsonAdaptedAttendance(StudentNumber studentNumber, List<String> lessons) {
+        this.studentNumber = studentNumber.value;
+        this.lessons.addAll(lessons);
+    }
+
+    /**
+     * Converts the student number of this attendance into the model's {@code StudentNumber} object.
+     *
+     * @throws IllegalValueException if the student number is missing or invalid.
+     */
+    public StudentNumber getModelStudentNumber() throws IllegalValueException {
+        if (studentNumber == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    StudentNumber.class.getSimpleName()));
+        }
+        if (!StudentNumber.isValidStudentNumber(studentNumber)) {
+            throw new IllegalValueException(StudentNumber.MESSAGE_CONSTRAINTS);
+        }
+        return new StudentNumber(studentNumber);
+    }
+
+    /**
+     * Returns the lessons of this attendance.
+     *
+     * @throws IllegalValueException if any lesson is not a valid lesson tag.
+     */
+    public List<String> getModelLessons() throws IllegalValueException {
+        for (String lesson : lessons) {
+            if (lesson == null || !Tag.isValidTagName(lesson)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return lessons;
+    }
+}
@@ -36,6 +36,6 @@ public class JsonAdaptedModule {
         if (!Module.isValidModule(this.moduleCode)) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new Module(moduleCode);
+        return Module.of(moduleCode);
     }
 }
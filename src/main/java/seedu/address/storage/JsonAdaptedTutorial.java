@@ -43,8 +43,8 @@ public class JsonAdaptedTutorial {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tutorial.
      */
     public Tutorial toModelType() throws IllegalValueException {
-        final Module module = new Module(moduleCode);
-        return new Tutorial(module, tutName, time);
+        final Module module = Module.of(moduleCode);
+        return Tutorial.of(module, tutName, time);
     }
 
 }
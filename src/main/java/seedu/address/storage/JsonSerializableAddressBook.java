@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -14,7 +16,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Person;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.UniqueField;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 import seedu.address.model.tutorial.Tutorial;
 
 /**
@@ -26,11 +30,16 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_MODULE = "Modules list contains duplicate module(s).";
     public static final String MESSAGE_DUPLICATE_TUTORIAL = "Tutorials list contains duplicate tutorial(s).";
-    public static final String MESSAGE_DUPLICATE_ATTENDANCE_TAG = "Tag list contains duplicate tag(s).";
+    public static final String MESSAGE_DUPLICATE_ATTENDANCE_TAG = "Attendance list contains duplicate attendance(s).";
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedModule> modules = new ArrayList<>();
     private final List<JsonAdaptedTutorial> tutorials = new ArrayList<>();
     private final List<JsonAdaptedAssignment> assignments = new ArrayList<>();
+    private final List<JsonAdaptedAttendance> attendance = new ArrayList<>();
+    private final List<UniqueField> uniqueFields = new ArrayList<>();
+
+    /** Attendance in the old format of one tag per attendance, named the student number followed by the lesson. */
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private final List<JsonAdaptedTag> attendanceTags = new ArrayList<>();
 
     /**
@@ -52,8 +61,9 @@ class JsonSerializableAddressBook {
         tutorials.addAll(source.getTutorialList().stream().map(JsonAdaptedTutorial::new).collect(Collectors.toList()));
         assignments.addAll(source.getAssignmentList().stream().map(JsonAdaptedAssignment::new)
                 .collect(Collectors.toList()));
-        attendanceTags.addAll(source.getAttendanceTagsList().stream().map(JsonAdaptedTag::new)
-                .collect(Collectors.toList()));
+        source.getAttendanceRecords().forEach((studentNumber, lessons) ->
+                attendance.add(new JsonAdaptedAttendance(studentNumber, lessons)));
+        uniqueFields.addAll(source.getUniqueFields());
     }
 
     /**
@@ -63,12 +73,18 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        // the unique fields are set first so that each person is checked against them in constant time as it is added
+        addressBook.setUniqueFields(new HashSet<>(uniqueFields));
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            try {
+                addressBook.addPerson(person);
+            } catch (DuplicateFieldException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
         }
 
         for (JsonAdaptedModule jsonAdaptedModule : modules) {
@@ -95,15 +111,50 @@ class JsonSerializableAddressBook {
             addressBook.addAssignment(tutorial);
         }
 
-        for (JsonAdaptedTag jsonAdaptedTag : attendanceTags) {
-            Tag attendanceTag = jsonAdaptedTag.toModelType();
-            if (addressBook.hasAttendanceTag(attendanceTag)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE_TAG);
+        for (JsonAdaptedAttendance jsonAdaptedAttendance : attendance) {
+            StudentNumber studentNumber = jsonAdaptedAttendance.getModelStudentNumber();
+            for (String lesson : jsonAdaptedAttendance.getModelLessons()) {
+                markAttendance(addressBook, studentNumber, lesson);
             }
-            addressBook.addAttendanceTag(attendanceTag);
         }
 
+        migrateAttendanceTags(addressBook);
+
         return addressBook;
     }
 
+    /**
+     * Records the attendance tags of the old format in the attendance ledger of {@code addressBook}.
+     * Each tag is split into the longest student number of a person in {@code addressBook} that it starts with and
+     * the lesson that follows. Tags that do not belong to any person are left over from deleted persons and dropped.
+     */
+    private void migrateAttendanceTags(AddressBook addressBook) throws IllegalValueException {
+        if (attendanceTags.isEmpty()) {
+            return;
+        }
+
+        Set<String> studentNumbers = new HashSet<>();
+        for (Person person : addressBook.getPersonList()) {
+            studentNumbers.add(person.getStudentNumber().value);
+        }
+
+        for (JsonAdaptedTag jsonAdaptedTag : attendanceTags) {
+            String tagName = jsonAdaptedTag.toModelType().tagName;
+            for (int split = tagName.length() - 1; split > 0; split--) {
+                String studentNumber = tagName.substring(0, split);
+                if (studentNumbers.contains(studentNumber)) {
+                    markAttendance(addressBook, new StudentNumber(studentNumber), tagName.substring(split));
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void markAttendance(AddressBook addressBook, StudentNumber studentNumber, String lesson)
+            throws IllegalValueException {
+        if (addressBook.hasAttendance(studentNumber, lesson)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE_TAG);
+        }
+        addressBook.markAttendance(studentNumber, lesson);
+    }
 }
@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.commands.HelpCommand.HELP_MESSAGE;
+import static seedu.address.logic.commands.HelpCommand.USERGUIDE_URL;
+
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -15,9 +18,6 @@ import seedu.address.commons.core.LogsCenter;
  */
 public class HelpWindow extends UiPart<Stage> {
 
-    public static final String USERGUIDE_URL = "https://ay2324s1-cs2103t-f12-3.github.io/tp/UserGuide.html";
-    public static final String HELP_MESSAGE = "Refer to the user guide: " + USERGUIDE_URL;
-
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
     private static final String FXML = "HelpWindow.fxml";
 
@@ -0,0 +1,86 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Name;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(new ModelManager(), storage));
+    }
+
+    @Test
+    public void serve_commands_feedbackWritten() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        boolean isExit = app.serve(input(ListCommand.COMMAND_WORD, "", "unknownCommand", HelpCommand.COMMAND_WORD),
+                output);
+
+        assertFalse(isExit);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS, MESSAGE_UNKNOWN_COMMAND, HelpCommand.HELP_MESSAGE),
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void serve_commandThrowingRuntimeException_keepsServing() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        boolean isExit = app.serve(input(SearchCommand.COMMAND_WORD + " " + PREFIX_NAME + "@@",
+                ListCommand.COMMAND_WORD), output);
+
+        assertFalse(isExit);
+        assertEquals(lines(Name.MESSAGE_CONSTRAINTS, ListCommand.MESSAGE_SUCCESS),
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void serve_exitCommand_stopsReading() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        boolean isExit = app.serve(input(ExitCommand.COMMAND_WORD, ListCommand.COMMAND_WORD), output);
+
+        assertTrue(isExit);
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), output.toString(StandardCharsets.UTF_8));
+    }
+
+    private static ByteArrayInputStream input(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder text = new StringBuilder();
+        for (String line : lines) {
+            text.append(line).append(System.lineSeparator());
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_unquotedFields_splitAtCommas() {
+        assertEquals(List.of("a", " b ", "", "c"), CsvUtil.splitLine("a, b ,,c"));
+        assertEquals(List.of(""), CsvUtil.splitLine(""));
+        assertEquals(List.of("a", ""), CsvUtil.splitLine("a,"));
+    }
+
+    @Test
+    public void splitLine_quotedFields_unquoted() {
+        assertEquals(List.of("Lee, Alex", "say \"hi\"", ""),
+                CsvUtil.splitLine("\"Lee, Alex\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void splitLine_badQuotes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, ()
+                -> CsvUtil.splitLine("\"open,field"));
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_MISPLACED_QUOTE, ()
+                -> CsvUtil.splitLine("\"closed\" early,b"));
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_MISPLACED_QUOTE, ()
+                -> CsvUtil.splitLine("in\"side"));
+    }
+
+    @Test
+    public void appendField_fieldsNeedingQuotes_quoted() throws Exception {
+        StringBuilder out = new StringBuilder();
+        CsvUtil.appendField(out, "plain", ',');
+        CsvUtil.appendField(out, "a,b", ',');
+        CsvUtil.appendField(out, "say \"hi\"", ',');
+        CsvUtil.appendField(out, "a,b", '\t');
+        CsvUtil.appendField(out, "a\tb", '\t');
+        assertEquals("plain\"a,b\"\"say \"\"hi\"\"\"a,b\"a\tb\"", out.toString());
+    }
+
+    @Test
+    public void appendField_roundTrip_splitLineReturnsField() throws Exception {
+        String field = "\"Lee\", Alex";
+        StringBuilder out = new StringBuilder();
+        CsvUtil.appendField(out, field, ',');
+        assertEquals(List.of(field), CsvUtil.splitLine(out.toString()));
+    }
+
+    @Test
+    public void splitLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+}
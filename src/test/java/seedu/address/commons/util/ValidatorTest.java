@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidatorTest {
+
+    private static final List<String> SAMPLES = List.of("", " ", "a", "A1", "abc", "123", "12", "1234567",
+            " abc", "abc ", "a b", "a  b", "a_b", "a-b", "\u00e9", "\u0661\u0662\u0663", "Ab9", "ab\n", "CS2103T");
+
+    @Test
+    public void ofRegex_matchesWholeString() {
+        Validator validator = Validator.ofRegex("\\d+");
+        assertTrue(validator.isValid("123"));
+        assertFalse(validator.isValid("123a"));
+        assertFalse(validator.isValid("a123"));
+        assertFalse(validator.isValid(""));
+    }
+
+    @Test
+    public void ofCharacters_invalidMinLength_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Validator.ofCharacters(0, Validator::isDigit));
+    }
+
+    @Test
+    public void isValid_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Validator.ofCharacters(1, Validator::isDigit).isValid(null));
+        assertThrows(NullPointerException.class, () -> Validator.ofRegex("\\d+").isValid(null));
+    }
+
+    @Test
+    public void ofCharacters_agreesWithEquivalentRegex() {
+        assertAgrees("\\d{3,}", Validator.ofCharacters(3, Validator::isDigit));
+        assertAgrees("\\d+", Validator.ofCharacters(1, Validator::isDigit));
+        assertAgrees("\\p{Alnum}+", Validator.ofCharacters(1, Validator::isAlphanumeric));
+        assertAgrees("[a-zA-Z0-9]{5,}", Validator.ofCharacters(5, Validator::isAlphanumeric));
+        assertAgrees("[\\p{Alnum}][\\p{Alnum} ]*", Validator.ofCharacters(1, Validator::isAlphanumeric,
+                c -> Validator.isAlphanumeric(c) || c == ' '));
+    }
+
+    private static void assertAgrees(String regex, Validator validator) {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(regex), validator.isValid(sample), regex + " on \"" + sample + "\"");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.PersonUtil;
+
+public class ScriptRunnerTest {
+
+    private final Model model = new ModelManager();
+    private final ScriptRunner runner = new ScriptRunner(new AddressBookParser(), model);
+
+    @Test
+    public void run_failingLines_reportedWithoutStopping() throws Exception {
+        ScriptReport report = run(
+                "# set up the class",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                "unknownCommand",
+                PersonUtil.getAddCommand(AMY),
+                RunCommand.COMMAND_WORD + " other.txt",
+                PersonUtil.getAddCommand(BOB),
+                "   " + ListCommand.COMMAND_WORD + "   ");
+
+        assertEquals(6, report.getCommandCount());
+        assertEquals(3, report.getSuccessCount());
+        List<String> failures = report.getFailures();
+        assertEquals(3, failures.size());
+        assertEquals(String.format(ScriptReport.MESSAGE_LINE_FAILURE, 4, MESSAGE_UNKNOWN_COMMAND), failures.get(0));
+        assertEquals(String.format(ScriptReport.MESSAGE_LINE_FAILURE, 6, ScriptRunner.MESSAGE_NESTED_SCRIPT),
+                failures.get(2));
+        assertEquals(List.of(AMY, BOB), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void run_lineThrowingRuntimeException_reportedWithoutStopping() throws Exception {
+        ScriptReport report = run(
+                PersonUtil.getAddCommand(AMY),
+                SearchCommand.COMMAND_WORD + " " + PREFIX_NAME + "@@",
+                PersonUtil.getAddCommand(BOB));
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(2, report.getSuccessCount());
+        assertEquals(List.of(String.format(ScriptReport.MESSAGE_LINE_FAILURE, 2, Name.MESSAGE_CONSTRAINTS)),
+                report.getFailures());
+        assertEquals(List.of(AMY, BOB), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void run_emptyScript_nothingRun() throws Exception {
+        ScriptReport report = run("# nothing to do", "  ");
+        assertEquals(0, report.getCommandCount());
+        assertEquals(String.format(ScriptReport.MESSAGE_SUMMARY, 0, 0, 0), report.getSummary());
+    }
+
+    @Test
+    public void run_withCheckpoint_savesEveryInterval() throws Exception {
+        int[] saves = new int[1];
+        runner.setCheckpoint(2, () -> saves[0]++);
+        run(ListCommand.COMMAND_WORD, "unknownCommand", ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD);
+        assertEquals(2, saves[0]);
+    }
+
+    @Test
+    public void run_checkpointFails_throwsCommandException() {
+        runner.setCheckpoint(1, () -> {
+            throw new CommandException("disk full");
+        });
+        assertThrows(CommandException.class, "disk full", () -> run(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void setCheckpoint_nonPositiveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> runner.setCheckpoint(0, () -> { }));
+    }
+
+    private ScriptReport run(String... lines) throws Exception {
+        return runner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+}
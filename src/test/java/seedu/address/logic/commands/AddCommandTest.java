@@ -10,7 +10,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,7 +27,11 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.module.Module;
+import seedu.address.model.person.NameKeyword;
+import seedu.address.model.person.NameMatches;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.search.SearchQuery;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.testutil.PersonBuilder;
@@ -163,6 +169,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NameMatches getNameMatches(List<NameKeyword> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWith(StudentNumber studentNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getSearchPredicate(SearchQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addModule(Module module) {
             throw new AssertionError("This method should not be called.");
@@ -198,6 +244,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Tutorial> findTutorial(Tutorial tutorial) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Tutorial> getTutorialList() {
             throw new AssertionError("This method should not be called.");
@@ -225,22 +276,22 @@ public class AddCommandTest {
         }
 
         @Override
-        public void addAttendanceTag(Tag tag) {
+        public void markAttendance(Person person, Tag lesson) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void deleteAttendanceTag(Tag tag) {
+        public void unmarkAttendance(Person person, Tag lesson) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean hasAttendanceTag(Tag tag) {
+        public boolean hasAttendance(Person person, Tag lesson) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public List<Tag> getAttendanceTagsList() {
+        public List<String> getAttendedLessons(Person person) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -61,6 +61,24 @@ public class AddToModuleCommandTest {
         assertCommandSuccess(addToModuleCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_allPersons_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Module testModule = new Module("CS1000");
+        model.addModule(testModule);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addModule(testModule);
+        for (Person person : model.getFilteredPersonList()) {
+            expectedModel.setPerson(person, new Person.Builder(person).addModule(testModule).build());
+        }
+
+        String expectedMessage = String.format(Messages.MESSAGE_PERSONS_EDITED,
+                model.getFilteredPersonList().size());
+
+        assertCommandSuccess(new AddToModuleCommand(PersonSelection.ofAll(), testModule), model, expectedMessage,
+                expectedModel);
+    }
+
     @Test
     public void equals() {
         Module test1 = new Module("CS1000");
@@ -93,7 +111,7 @@ public class AddToModuleCommandTest {
         Index targetIndex = Index.fromOneBased(1);
         AddToModuleCommand addToModuleCommand = new AddToModuleCommand(INDEX_FIRST_PERSON,
                 new Module("CS1000"));
-        String expected = AddToModuleCommand.class.getCanonicalName() + "{index=" + targetIndex + "}";
+        String expected = AddToModuleCommand.class.getCanonicalName() + "{selection=" + targetIndex + "}";
         assertEquals(expected, addToModuleCommand.toString());
     }
 }
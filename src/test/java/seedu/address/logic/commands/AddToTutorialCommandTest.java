@@ -147,7 +147,7 @@ class AddToTutorialCommandTest {
         AddToTutorialCommand addToTutorialCommand = new AddToTutorialCommand(
                 INDEX_FIRST_PERSON, testTut);
         String expected = AddToTutorialCommand.class.getCanonicalName()
-                + "{index=" + targetIndex + ", tutorialName="
+                + "{selection=" + targetIndex + ", tutorialName="
                 + testTut + "}";
         assertEquals(expected, addToTutorialCommand.toString());
     }
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBookWithAttendance;
 
@@ -16,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
@@ -46,6 +49,33 @@ public class AttendanceCommandTest {
         assertCommandSuccess(attendanceCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validStudentNumberAndTag_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Tag toAdd = new Tag("S1");
+
+        Person person = model.getFilteredPersonList().get(0);
+        Person editedPerson = new PersonBuilder(person).withTags("friends", "S1").build();
+
+        AttendanceCommand attendanceCommand = new AttendanceCommand(PersonReference.of(person.getStudentNumber()),
+                toAdd);
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS, Messages.format(editedPerson));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(person, editedPerson);
+
+        assertCommandSuccess(attendanceCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownStudentNumber_errorMessage() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StudentNumber unknown = new StudentNumber("A9999999Z");
+
+        assertCommandFailure(new AttendanceCommand(PersonReference.of(unknown), new Tag("S1")), model,
+                String.format(Messages.MESSAGE_UNKNOWN_STUDENT_NUMBER, unknown));
+    }
+
     @Test
     public void execute_duplicateAttendance_errorMessage() {
         Model model = new ModelManager(getTypicalAddressBookWithAttendance(), new UserPrefs());
@@ -54,6 +84,51 @@ public class AttendanceCommandTest {
                 new Tag("S1")), model, AttendanceCommand.MESSAGE_DUPLICATE_ATTENDANCE);
     }
 
+    @Test
+    public void execute_rangeOfPersons_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Tag toAdd = new Tag("S1");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        for (Person person : model.getFilteredPersonList().subList(0, 3)) {
+            Person editedPerson = new Person.Builder(person).addTag(toAdd).build();
+            expectedModel.setPerson(person, editedPerson);
+            expectedModel.markAttendance(editedPerson, toAdd);
+        }
+
+        AttendanceCommand attendanceCommand = new AttendanceCommand(
+                PersonSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), toAdd);
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS_MULTIPLE, 3);
+
+        assertCommandSuccess(attendanceCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeWithDuplicateAttendance_noPersonEdited() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Tag toAdd = new Tag("S1");
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.markAttendance(secondPerson, toAdd);
+
+        assertCommandFailure(new AttendanceCommand(PersonSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                toAdd), model, String.format(AttendanceCommand.MESSAGE_DUPLICATE_ATTENDANCE_OF,
+                secondPerson.getName()));
+    }
+
+    @Test
+    public void execute_rangeWithSharedStudentNumber_noPersonEdited() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.setPerson(firstPerson,
+                new PersonBuilder(firstPerson).withStudentNumber(StudentNumber.PLACEHOLDER).build());
+        model.setPerson(secondPerson,
+                new PersonBuilder(secondPerson).withStudentNumber(StudentNumber.PLACEHOLDER).build());
+
+        assertCommandFailure(new AttendanceCommand(PersonSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                new Tag("S1")), model, String.format(AttendanceCommand.MESSAGE_SHARED_STUDENT_NUMBER,
+                firstPerson.getName(), secondPerson.getName()));
+    }
+
     @Test
     public void equals() {
         Tag tag = new Tag("S1");
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -21,6 +22,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchTerm;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.testutil.PersonBuilder;
 
@@ -80,6 +82,18 @@ public class DeleteModuleCommandTest {
         assertTrue(editedPerson.equals(expectedPerson));
     }
 
+    @Test
+    public void execute_searchFilterActive_showsAllPersonsWithoutModule() throws Exception {
+        Module module = model.getModuleList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.updateFilteredPersonList(model.getSearchPredicate(SearchTerm.module(module)));
+        assertFalse(model.getFilteredPersonList().isEmpty());
+
+        new DeleteModuleCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+        assertTrue(model.getFilteredPersonList().stream().noneMatch(person -> person.getModules().contains(module)));
+    }
+
     @Test
     public void execute_invalidIndexList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getModuleList().size() + 1);
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -16,6 +17,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchTerm;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.testutil.PersonBuilder;
 
@@ -69,6 +71,28 @@ public class DeleteTutorialCommandTest {
                 String.format(DeleteTutorialCommand.MESSAGE_SUCCESS, testTutorial), expectedModel);
     }
 
+    @Test
+    public void execute_searchFilterActive_showsAllPersonsWithoutTutorial() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Module testModule = new Module("CS1000");
+        model.addModule(testModule);
+        Tutorial testTutorial = new Tutorial(testModule, "test name", "test time");
+        model.addTutorial(testTutorial);
+        Person personWithTutorial = new PersonBuilder(model.getAddressBook().getPersonList().get(0))
+                .withModules(testModule).withTutorials(testTutorial).build();
+        model.setPerson(model.getFilteredPersonList().get(0), personWithTutorial);
+        model.updateFilteredPersonList(model.getSearchPredicate(SearchTerm.tutorial(testTutorial)));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addModule(testModule);
+        expectedModel.setPerson(expectedModel.getFilteredPersonList().get(0),
+                new PersonBuilder(personWithTutorial).withTutorials().build());
+
+        assertCommandSuccess(new DeleteTutorialCommand(INDEX_FIRST_PERSON), model,
+                String.format(DeleteTutorialCommand.MESSAGE_SUCCESS, testTutorial), expectedModel);
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         DeleteTutorialCommand deleteTutorialCommand = new DeleteTutorialCommand(INDEX_FIRST_PERSON);
@@ -99,6 +99,29 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multiplePersonsTagsSpecified_success() {
+        PersonSelection selection = PersonSelection.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_HUSBAND).build();
+        EditCommand editCommand = new EditCommand(selection, descriptor);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        for (Person person : model.getFilteredPersonList().subList(0, 2)) {
+            expectedModel.setPerson(person, new PersonBuilder(person).withTags(VALID_TAG_HUSBAND).build());
+        }
+
+        assertCommandSuccess(editCommand, model, String.format(Messages.MESSAGE_PERSONS_EDITED, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_multiplePersonsUniqueFieldSpecified_failure() {
+        PersonSelection selection = PersonSelection.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        EditCommand editCommand = new EditCommand(selection,
+                new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build());
+
+        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_UNIQUE_FIELD_FOR_MULTIPLE);
+    }
+
     @Test
     public void execute_duplicatePersonUnfilteredList_failure() {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
@@ -176,7 +199,7 @@ public class EditCommandTest {
         Index index = Index.fromOneBased(1);
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
         EditCommand editCommand = new EditCommand(index, editPersonDescriptor);
-        String expected = EditCommand.class.getCanonicalName() + "{index=" + index + ", editPersonDescriptor="
+        String expected = EditCommand.class.getCanonicalName() + "{selection=" + index + ", editPersonDescriptor="
                 + editPersonDescriptor + "}";
         assertEquals(expected, editCommand.toString());
     }
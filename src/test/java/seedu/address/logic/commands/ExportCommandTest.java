@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand.Format;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    private static final Module MODULE = Module.of("CS2103T");
+    private static final Tutorial TUTORIAL = Tutorial.of(MODULE, "T11", "2PM");
+
+    private static final Person ALEX = new Person.Builder(new PersonBuilder().withName("Alex Yeoh")
+            .withPhone("87438807").withEmail("alex@example.com").withStudentNumber("A0000001X")
+            .withTelegram("@alex").withTags().build()).addModule(MODULE).addTutorial(TUTORIAL).build();
+    private static final Person BERNICE = new PersonBuilder().withName("Bernice Yu").withPhone("99272758")
+            .withEmail("bernice@example.com").withStudentNumber("A0000002X").withTelegram("@bernice, yu")
+            .withTags().build();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+
+    @BeforeEach
+    public void setUp() {
+        model.addModule(MODULE);
+        model.addTutorial(TUTORIAL);
+        model.addPerson(ALEX);
+        model.addPerson(BERNICE);
+        model.markAttendance(ALEX, new Tag("S1"));
+        model.markAttendance(ALEX, new Tag("S2"));
+    }
+
+    @Test
+    public void execute_displayedListAsCsv_success() throws Exception {
+        Path filePath = temporaryFolder.resolve("out.csv");
+        CommandResult result = new ExportCommand(filePath, Format.CSV).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, filePath), result.getFeedbackToUser());
+        assertEquals(List.of(
+                String.join(",", ExportCommand.COLUMNS),
+                "Alex Yeoh,87438807,alex@example.com,A0000001X,@alex,CS2103T,CS2103T T11,S1; S2",
+                "Bernice Yu,99272758,bernice@example.com,A0000002X,\"@bernice, yu\",,,"),
+                Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void execute_tutorialAsTsv_onlyTutorialExported() throws Exception {
+        Path filePath = temporaryFolder.resolve("exports").resolve("T11.tsv");
+        new ExportCommand(filePath, Format.TSV, MODULE, Tutorial.of(MODULE, "T11")).execute(model);
+
+        assertEquals(List.of(
+                String.join("\t", ExportCommand.COLUMNS),
+                "Alex Yeoh\t87438807\talex@example.com\tA0000001X\t@alex\tCS2103T\tCS2103T T11\tS1; S2"),
+                Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void execute_filteredList_onlyDisplayedExported() throws Exception {
+        model.updateFilteredPersonList(person -> person.equals(BERNICE));
+        Path filePath = temporaryFolder.resolve("out.csv");
+        CommandResult result = new ExportCommand(filePath, Format.CSV).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, filePath), result.getFeedbackToUser());
+        assertEquals(2, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void execute_missingModuleOrTutorial_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("out.csv");
+        assertCommandFailure(new ExportCommand(filePath, Format.CSV, Module.of("CS2100"), null), model,
+                Messages.MESSAGE_INVALID_MODULE);
+        assertCommandFailure(new ExportCommand(filePath, Format.CSV, MODULE, Tutorial.of(MODULE, "T12")), model,
+                Messages.MESSAGE_INVALID_TUTORIAL);
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("out.csv"), Format.CSV);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("out.csv"), Format.CSV)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("other.csv"), Format.CSV)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("out.csv"), Format.TSV)));
+
+        // different module -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("out.csv"), Format.CSV, MODULE, null)));
+    }
+}
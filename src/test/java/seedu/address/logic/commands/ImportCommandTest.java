@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final Module MODULE = Module.of("CS2103T");
+    private static final Tutorial TUTORIAL = Tutorial.of(MODULE, "T11", "2PM");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+
+    @BeforeEach
+    public void setUp() {
+        model.addModule(MODULE);
+        model.addTutorial(TUTORIAL);
+    }
+
+    @Test
+    public void execute_roster_validRowsImported() throws Exception {
+        Path rosterPath = writeRoster(
+                String.join(",", PersonCsvParser.COLUMNS),
+                "Alex Yeoh,87438807,alex@example.com,A0000001X,@alex,CS2103T,T11",
+                "Bernice Yu,99272758,bernice@example.com",
+                "",
+                "Charlotte Oliveiro,9327abc,charlotte@example.com",
+                "David Li,91031282,david@example.com,A0000002X,,CS2100",
+                "Alex Yeoh,87438807,alex@example.com",
+                "\"Irfan Ibrahim\",92492021,irfan@example.com,,,CS2103T,T12");
+
+        CommandResult result = new ImportCommand(rosterPath).execute(model);
+
+        Path reportPath = ImportCommand.getReportPath(rosterPath);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, rosterPath) + "\n"
+                + String.format(ImportCommand.MESSAGE_FAILURES, 4, reportPath), result.getFeedbackToUser());
+        assertEquals(List.of(
+                String.format(ImportCommand.MESSAGE_ROW_FAILURE, 5, Phone.MESSAGE_CONSTRAINTS),
+                String.format(ImportCommand.MESSAGE_ROW_FAILURE, 6, Messages.MESSAGE_INVALID_MODULE),
+                String.format(ImportCommand.MESSAGE_ROW_FAILURE, 7, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                String.format(ImportCommand.MESSAGE_ROW_FAILURE, 8, Messages.MESSAGE_INVALID_TUTORIAL)),
+                Files.readAllLines(reportPath));
+
+        List<Person> persons = model.getFilteredPersonList();
+        assertEquals(2, persons.size());
+        assertEquals("Alex Yeoh", persons.get(0).getName().fullName);
+        // the tutorial is the one stored in the address book, with its time
+        assertTrue(persons.get(0).getTutorials().stream().anyMatch(tutorial -> tutorial == TUTORIAL));
+    }
+
+    @Test
+    public void execute_rosterLargerThanChunk_allRowsImported() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.CHUNK_SIZE + 10; i++) {
+            rows.add("Student " + i + "," + (90000000 + i) + ",s" + i + "@example.com,A" + i + "X");
+        }
+        Path rosterPath = writeRoster(rows.toArray(new String[0]));
+
+        CommandResult result = new ImportCommand(rosterPath).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, rows.size(), rosterPath),
+                result.getFeedbackToUser());
+        assertEquals(rows.size(), model.getFilteredPersonList().size());
+        assertFalse(Files.exists(ImportCommand.getReportPath(rosterPath)));
+    }
+
+    @Test
+    public void execute_missingRoster_throwsCommandException() {
+        Path rosterPath = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(rosterPath), model,
+                String.format(ImportCommand.MESSAGE_READ_ERROR, rosterPath, rosterPath));
+    }
+
+    @Test
+    public void execute_rosterUnreadablePartway_nothingImported() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.CHUNK_SIZE + 10; i++) {
+            rows.add("Student " + i + "," + (90000000 + i) + ",s" + i + "@example.com,A" + i + "X");
+        }
+        Path rosterPath = writeRoster(rows.toArray(new String[0]));
+        // a byte that is not valid UTF-8, in the second chunk of the roster
+        Files.write(rosterPath, new byte[] {(byte) 0xff, '\n'}, StandardOpenOption.APPEND);
+
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_READ_ERROR, rosterPath,
+                "Input length = 1"), () -> new ImportCommand(rosterPath).execute(model));
+        assertEquals(List.of(), model.getAddressBook().getPersonList());
+        assertEquals(List.of(), model.getFilteredPersonList());
+        assertFalse(model.hasPerson(new PersonBuilder().withName("Student 0").build()));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    private Path writeRoster(String... rows) throws Exception {
+        Path rosterPath = temporaryFolder.resolve("roster.csv");
+        Files.write(rosterPath, List.of(rows));
+        return rosterPath;
+    }
+}
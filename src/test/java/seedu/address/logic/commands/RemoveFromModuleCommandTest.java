@@ -102,7 +102,7 @@ public class RemoveFromModuleCommandTest {
         Index targetIndex = Index.fromOneBased(1);
         RemoveFromModuleCommand removeFromModuleCommand = new RemoveFromModuleCommand(INDEX_FIRST_PERSON,
                 new Module("CS1000"));
-        String expected = RemoveFromModuleCommand.class.getCanonicalName() + "{index=" + targetIndex + "}";
+        String expected = RemoveFromModuleCommand.class.getCanonicalName() + "{selection=" + targetIndex + "}";
         assertEquals(expected, removeFromModuleCommand.toString());
     }
 }
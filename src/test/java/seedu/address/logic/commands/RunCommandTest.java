@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.ScriptReport;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_script_success() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(AMY)));
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        String expectedMessage = String.format(ScriptReport.MESSAGE_SUMMARY, 2, 1, 1) + "\n"
+                + String.format(ScriptReport.MESSAGE_LINE_FAILURE, 2, AddCommand.MESSAGE_DUPLICATE_PERSON);
+
+        assertCommandSuccess(new RunCommand(scriptPath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        RunCommand runCommand = new RunCommand(scriptPath);
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_READ_ERROR, scriptPath, scriptPath));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Paths.get("first.txt"));
+        RunCommand runSecondCommand = new RunCommand(Paths.get("second.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path scriptPath = Paths.get("script.txt");
+        RunCommand runCommand = new RunCommand(scriptPath);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptPath=" + scriptPath + "}";
+        assertEquals(expected, runCommand.toString());
+    }
+}
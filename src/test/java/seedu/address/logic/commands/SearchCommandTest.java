@@ -27,6 +27,8 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchTerm;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.testutil.PersonBuilder;
@@ -97,6 +99,17 @@ public class SearchCommandTest {
     }
 
 
+    @Test
+    public void execute_booleanQuery() {
+        Person secondPerson = model.getFilteredPersonList().get(1);
+        SearchQuery query = SearchQuery.or(List.of(
+                SearchQuery.and(List.of(SearchTerm.module(FIRST_MODULE),
+                        SearchQuery.not(SearchTerm.tutorial(TUTORIAL_TUT1_MON9PM)))),
+                SearchTerm.name(secondPerson.getName())));
+        expectedModel.updateFilteredPersonList(person -> person.equals(secondPerson));
+        assertCommandSuccess(new SearchCommand(query), model, SearchCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
     @Test
     public void equals() {
         List<Name> amyNameList = new ArrayList<>(List.of(new Name(VALID_NAME_AMY)));
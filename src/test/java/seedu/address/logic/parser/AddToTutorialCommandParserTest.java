@@ -35,7 +35,7 @@ class AddToTutorialCommandParserTest {
 
     @Test
     public void parse_invalidIndex_throwsParseException() {
-        assertParseFailure(parser, "a m/CS1000 tn/ T11",
+        assertParseFailure(parser, "a! m/CS1000 tn/ T11",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddToTutorialCommand.MESSAGE_USAGE));
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -147,6 +148,19 @@ public class AddressBookParserTest {
         List<Tag> emptyTagList = new ArrayList<>();
         assertEquals(new SearchCommand(nameList, moduleList, tutorialList, emptyTagList), command);
     }
+    @Test
+    public void parseCommand_defaultRegistry_countsParses() throws Exception {
+        AddressBookParser countingParser = new AddressBookParser(AddressBookParser.createDefaultRegistry());
+        CommandRegistry registry = countingParser.getRegistry();
+        assertFalse(registry.isLoaded(AddModuleCommand.COMMAND_WORD));
+
+        countingParser.parseCommand(ListCommand.COMMAND_WORD);
+        countingParser.parseCommand("\t" + ListCommand.COMMAND_WORD + "\t3");
+        countingParser.parseCommand(AddModuleCommand.COMMAND_WORD + " " + PREFIX_MODULE + "CS2103T");
+        assertEquals(2, registry.getParseCount(ListCommand.COMMAND_WORD));
+        assertTrue(registry.isLoaded(AddModuleCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
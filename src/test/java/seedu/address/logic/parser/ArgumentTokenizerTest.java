@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +137,47 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_reusedTokenizer_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT);
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArgs("preamble p/first -t tag");
+        assertArgumentPresent(argMultimap, pSlash, "first");
+
+        argMultimap = tokenizer.tokenizeArgs(" -t other");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "other");
+    }
+
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix t = new Prefix("t");
+        Prefix tSlash = new Prefix("t/");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("x t/slash tvalue t", t, tSlash);
+        assertPreamblePresent(argMultimap, "x");
+        assertArgumentPresent(argMultimap, tSlash, "slash");
+        assertArgumentPresent(argMultimap, t, "value", "");
+    }
+
+    @Test
+    public void tokenize_manyRepeatedArguments_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[500];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "tag" + i;
+            argsString.append(" p/").append(expectedValues[i]);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+    }
+
+    @Test
+    public void constructor_invalidPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(new Prefix("")));
+        assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(new Prefix("a b")));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
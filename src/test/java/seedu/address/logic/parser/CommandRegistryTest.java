@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = new CommandRegistry();
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.registerLazily(ListCommand.COMMAND_WORD, () -> arguments -> new ListCommand()));
+    }
+
+    @Test
+    public void parse_unknownCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("unknown", ""));
+    }
+
+    @Test
+    public void parse_registeredCommandWord_usesSameParser() throws Exception {
+        Command command = new ClearCommand();
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> command);
+        assertSame(command, registry.parse(ClearCommand.COMMAND_WORD, ""));
+        assertSame(command, registry.parse(ClearCommand.COMMAND_WORD, " 3"));
+    }
+
+    @Test
+    public void registerLazily_parserCreatedOnceOnFirstParse() throws Exception {
+        int[] creations = new int[1];
+        registry.registerLazily(ListCommand.COMMAND_WORD, () -> {
+            creations[0]++;
+            return arguments -> new ListCommand();
+        });
+        assertFalse(registry.isLoaded(ListCommand.COMMAND_WORD));
+        assertEquals(0, creations[0]);
+
+        registry.parse(ListCommand.COMMAND_WORD, "");
+        registry.parse(ListCommand.COMMAND_WORD, "");
+        assertTrue(registry.isLoaded(ListCommand.COMMAND_WORD));
+        assertEquals(1, creations[0]);
+    }
+
+    @Test
+    public void getParseCount_countsSuccessfulAndFailedParses() throws Exception {
+        registry.register(ListCommand.COMMAND_WORD, arguments -> {
+            if (!arguments.isEmpty()) {
+                throw new ParseException("Unexpected arguments");
+            }
+            return new ListCommand();
+        });
+        assertEquals(0, registry.getParseCount(ListCommand.COMMAND_WORD));
+
+        registry.parse(ListCommand.COMMAND_WORD, "");
+        assertThrows(ParseException.class, () -> registry.parse(ListCommand.COMMAND_WORD, "3"));
+        assertEquals(2, registry.getParseCount(ListCommand.COMMAND_WORD));
+        assertTrue(registry.getParseNanos(ListCommand.COMMAND_WORD) >= 0);
+    }
+
+    @Test
+    public void getParseCount_unregisteredCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.getParseCount("unknown"));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Format;
+import seedu.address.model.module.Module;
+import seedu.address.model.tutorial.Tutorial;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_fileOnly_formatFromExtension() {
+        assertParseSuccess(parser, " out.csv", new ExportCommand(Paths.get("out.csv"), Format.CSV));
+        assertParseSuccess(parser, " out.TSV ", new ExportCommand(Paths.get("out.TSV"), Format.TSV));
+        assertParseSuccess(parser, " out", new ExportCommand(Paths.get("out"), Format.CSV));
+    }
+
+    @Test
+    public void parse_explicitFormat_success() {
+        assertParseSuccess(parser, " out.txt tsv", new ExportCommand(Paths.get("out.txt"), Format.TSV));
+    }
+
+    @Test
+    public void parse_moduleAndTutorial_success() {
+        Module module = Module.of("CS2103T");
+        assertParseSuccess(parser, " out.csv m/cs2103t",
+                new ExportCommand(Paths.get("out.csv"), Format.CSV, module, null));
+        assertParseSuccess(parser, " out.csv csv m/CS2103T tn/T11",
+                new ExportCommand(Paths.get("out.csv"), Format.CSV, module, Tutorial.of(module, "T11")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no file
+        assertParseFailure(parser, " ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " m/CS2103T", MESSAGE_INVALID_FORMAT);
+
+        // unknown format
+        assertParseFailure(parser, " out.csv xml", MESSAGE_INVALID_FORMAT);
+
+        // too many words
+        assertParseFailure(parser, " out.csv csv extra", MESSAGE_INVALID_FORMAT);
+
+        // tutorial without module
+        assertParseFailure(parser, " out.csv tn/T11", MESSAGE_INVALID_FORMAT);
+    }
+}
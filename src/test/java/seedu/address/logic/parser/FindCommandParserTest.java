@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameKeyword;
 
 public class FindCommandParserTest {
 
@@ -29,6 +30,17 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // prefix and fuzzy keywords
+        assertParseSuccess(parser, "Ali* ~Bbo",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Ali*", "~Bbo"))));
+    }
+
+    @Test
+    public void parse_invalidKeyword_throwsParseException() {
+        assertParseFailure(parser, "Alice ~", NameKeyword.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "~Ali*", NameKeyword.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "*", NameKeyword.MESSAGE_CONSTRAINTS);
     }
 
 }
@@ -5,18 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.PersonReference;
+import seedu.address.logic.commands.PersonSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentNumber;
 import seedu.address.model.tag.Tag;
 
 public class ParserUtilTest {
@@ -59,6 +65,51 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parsePersonReference_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonReference(""));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonReference("A0203220J B"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonReference("A0203220J!"));
+
+        // made only of digits, so read as an index rather than a student number
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonReference("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonReference("99999999999"));
+    }
+
+    @Test
+    public void parsePersonReference_validInput_success() throws Exception {
+        assertEquals(PersonReference.of(INDEX_FIRST_PERSON), ParserUtil.parsePersonReference("  1  "));
+        assertEquals(PersonReference.of(new StudentNumber("A0203220J")),
+                ParserUtil.parsePersonReference("  A0203220J  "));
+
+        // student number made only of letters
+        assertEquals(PersonReference.of(new StudentNumber("Exchange")), ParserUtil.parsePersonReference("Exchange"));
+
+        // made only of digits, so read as an index even though it is also a valid student number
+        assertEquals(PersonReference.of(Index.fromOneBased(20320)), ParserUtil.parsePersonReference("20320"));
+    }
+
+    @Test
+    public void parsePersonSelection_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonSelection(""));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonSelection("1,"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonSelection("1-"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePersonSelection("0-3"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_RANGE, () ->
+                ParserUtil.parsePersonSelection("3-1"));
+    }
+
+    @Test
+    public void parsePersonSelection_validInput_success() throws Exception {
+        assertEquals(PersonSelection.ofAll(), ParserUtil.parsePersonSelection("  ALL  "));
+        assertEquals(PersonSelection.of(PersonReference.of(INDEX_FIRST_PERSON)),
+                ParserUtil.parsePersonSelection(" 1 "));
+        assertEquals(PersonSelection.union(List.of(
+                        PersonSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                        PersonSelection.of(PersonReference.of(new StudentNumber("A0203220J"))))),
+                ParserUtil.parsePersonSelection("1 - 3, A0203220J"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
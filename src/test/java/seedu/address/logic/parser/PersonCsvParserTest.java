@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_NUMBER_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TELEGRAM_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCsvParserTest {
+
+    private static final String REQUIRED_COLUMNS = VALID_NAME_AMY + "," + VALID_PHONE_AMY + "," + VALID_EMAIL_AMY;
+
+    private final PersonCsvParser parser = new PersonCsvParser();
+
+    @Test
+    public void parse_allColumns_success() throws Exception {
+        Person person = parser.parse(REQUIRED_COLUMNS + ", " + VALID_STUDENT_NUMBER_AMY + "," + VALID_TELEGRAM_AMY
+                + ",cs2103t,T11");
+        Person expected = new PersonBuilder().withName(VALID_NAME_AMY).withPhone(VALID_PHONE_AMY)
+                .withEmail(VALID_EMAIL_AMY).withStudentNumber(VALID_STUDENT_NUMBER_AMY)
+                .withTelegram(VALID_TELEGRAM_AMY).withTags().build();
+        expected = new Person.Builder(expected).addModule(Module.of("CS2103T"))
+                .addTutorial(Tutorial.of(Module.of("CS2103T"), "T11")).build();
+        assertEquals(expected, person);
+    }
+
+    @Test
+    public void parse_requiredColumnsOnly_placeholdersUsed() throws Exception {
+        Person person = parser.parse(REQUIRED_COLUMNS);
+        assertEquals(StudentNumber.PLACEHOLDER, person.getStudentNumber().toString());
+        assertTrue(person.getModules().isEmpty());
+        assertTrue(person.getTutorials().isEmpty());
+    }
+
+    @Test
+    public void parse_invalidRows_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_WRONG_COLUMN_COUNT, 3, 7, 2), ()
+                -> parser.parse(VALID_NAME_AMY + "," + VALID_PHONE_AMY));
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS, ()
+                -> parser.parse(VALID_NAME_AMY + ",12ab," + VALID_EMAIL_AMY));
+        assertThrows(ParseException.class, PersonCsvParser.MESSAGE_TUTORIAL_WITHOUT_MODULE, ()
+                -> parser.parse(REQUIRED_COLUMNS + ",,,,T11"));
+        assertThrows(ParseException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, ()
+                -> parser.parse("\"" + REQUIRED_COLUMNS));
+    }
+
+    @Test
+    public void isHeader() {
+        assertTrue(parser.isHeader(String.join(",", PersonCsvParser.COLUMNS)));
+        assertTrue(parser.isHeader(" Name ,Phone"));
+        assertFalse(parser.isHeader(REQUIRED_COLUMNS));
+        assertFalse(parser.isHeader("\"name"));
+    }
+}
@@ -21,7 +21,7 @@ public class RemoveFromModuleCommandParserTest {
     }
     @Test
     public void parse_invalidIndex_throwsParseException() {
-        assertParseFailure(parser, "a m/CS1000",
+        assertParseFailure(parser, "a! m/CS1000",
                 String.format(ParserUtil.MESSAGE_INVALID_INDEX));
     }
 
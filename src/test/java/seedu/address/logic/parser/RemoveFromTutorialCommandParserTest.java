@@ -34,7 +34,7 @@ class RemoveFromTutorialCommandParserTest {
 
     @Test
     public void parse_invalidIndex_throwsParseException() {
-        assertParseFailure(parser, "a m/CS1000 tn/ T11",
+        assertParseFailure(parser, "a! m/CS1000 tn/ T11",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemoveFromTutorialCommand.MESSAGE_USAGE));
     }
 
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.TUTORIAL_GROUP_DESC_TG01;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_CS2100;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TUTORIAL_GROUP_TG01;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -20,11 +21,19 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.model.module.Module;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchTerm;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutorial.Tutorial;
 
 public class SearchCommandParserTest {
+    private static final String NOT_A_TAG_QUERY = MODULE_DESC_CS2100 + " OR t/not-a-tag";
+
     private final SearchCommandParser parser = new SearchCommandParser();
 
     @Test
@@ -99,5 +108,62 @@ public class SearchCommandParserTest {
         assertParseFailure(parser, TUTORIAL_GROUP_DESC_TG01,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_INVALID_NUM_OF_MODULES));
     }
-}
 
+    @Test
+    public void parse_booleanQuery_success() {
+        Module cs2100 = new Module(VALID_MODULE_CS2100);
+        SearchTerm module = SearchTerm.module(cs2100);
+        SearchTerm tutorial = SearchTerm.tutorial(new Tutorial(cs2100, VALID_TUTORIAL_GROUP_TG01));
+        SearchTerm tag = SearchTerm.tag(new Tag("probation"));
+        SearchQuery inModuleNotTutorial = SearchQuery.and(List.of(module, SearchQuery.not(tutorial)));
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertParseSuccess(parser, MODULE_DESC_CS2100 + " AND NOT" + TUTORIAL_GROUP_DESC_TG01 + " OR t/probation",
+                new SearchCommand(SearchQuery.or(List.of(inModuleNotTutorial, tag))));
+
+        // conditions one after another are joined by AND
+        assertParseSuccess(parser, MODULE_DESC_CS2100 + " NOT" + TUTORIAL_GROUP_DESC_TG01 + " OR t/probation",
+                new SearchCommand(SearchQuery.or(List.of(inModuleNotTutorial, tag))));
+
+        // parentheses group
+        assertParseSuccess(parser, MODULE_DESC_CS2100 + " (NOT" + TUTORIAL_GROUP_DESC_TG01 + " OR t/probation)",
+                new SearchCommand(SearchQuery.and(List.of(module,
+                        SearchQuery.or(List.of(SearchQuery.not(tutorial), tag))))));
+
+        // names may span several words and more than one name may be given
+        assertParseSuccess(parser, NAME_DESC_AMY + " OR" + NAME_DESC_BOB,
+                new SearchCommand(SearchQuery.or(List.of(SearchTerm.name(new Name(VALID_NAME_AMY)),
+                        SearchTerm.name(new Name(VALID_NAME_BOB))))));
+    }
+
+    @Test
+    public void parse_malformedBooleanQuery_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, MODULE_DESC_CS2100 + " AND", expectedMessage);
+        assertParseFailure(parser, "(" + MODULE_DESC_CS2100, expectedMessage);
+        assertParseFailure(parser, MODULE_DESC_CS2100 + ")", expectedMessage);
+        assertParseFailure(parser, "OR" + MODULE_DESC_CS2100, expectedMessage);
+        assertParseFailure(parser, "dummy AND" + MODULE_DESC_CS2100, expectedMessage);
+        assertParseFailure(parser, NOT_A_TAG_QUERY, Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "NOT" + TUTORIAL_GROUP_DESC_TG01,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_INVALID_NUM_OF_MODULES));
+    }
+
+    @Test
+    public void parse_contactConditions_success() {
+        assertParseSuccess(parser, " s/A0240252J", new SearchCommand(
+                SearchTerm.studentNumber(new StudentNumber("A0240252J"))));
+        assertParseSuccess(parser, " e/@U.nus.edu p/*4321", new SearchCommand(SearchQuery.and(List.of(
+                SearchTerm.phoneSuffix("4321"), SearchTerm.emailDomain("u.nus.edu")))));
+        assertParseSuccess(parser, " tele/@bob OR e/bob@example.com", new SearchCommand(SearchQuery.or(List.of(
+                SearchTerm.telegram(new Telegram("@bob")), SearchTerm.email(new Email("bob@example.com"))))));
+    }
+
+    @Test
+    public void parse_invalidContactConditions_failure() {
+        assertParseFailure(parser, " p/*12a", Phone.MESSAGE_DIGITS_CONSTRAINTS);
+        assertParseFailure(parser, " p/12", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " e/@-nus", Email.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/A024-0252J", StudentNumber.MESSAGE_CONSTRAINTS);
+    }
+}
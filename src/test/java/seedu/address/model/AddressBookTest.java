@@ -2,21 +2,26 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.model.assignment.Assignment;
@@ -24,8 +29,10 @@ import seedu.address.model.assignment.UniqueAssignmentList;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.UniqueModuleList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.UniqueField;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.search.SearchTerm;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.model.tutorial.UniqueTutorialList;
 import seedu.address.testutil.PersonBuilder;
@@ -98,6 +105,74 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    @Test
+    public void removePerson_personWithAttendance_attendanceRemoved() {
+        addressBook.addPerson(ALICE);
+        addressBook.markAttendance(ALICE.getStudentNumber(), "S1");
+        addressBook.removePerson(ALICE);
+        assertFalse(addressBook.hasAttendance(ALICE.getStudentNumber(), "S1"));
+        assertEquals(Collections.emptyMap(), addressBook.getAttendanceRecords());
+    }
+
+    @Test
+    public void setPerson_studentNumberChanged_attendanceMoved() {
+        addressBook.addPerson(ALICE);
+        addressBook.markAttendance(ALICE.getStudentNumber(), "S1");
+        Person editedAlice = new PersonBuilder(ALICE).withStudentNumber("A0000000X").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertFalse(addressBook.hasAttendance(ALICE.getStudentNumber(), "S1"));
+        assertTrue(addressBook.hasAttendance(editedAlice.getStudentNumber(), "S1"));
+    }
+
+    @Test
+    public void removeModule_membersOfModule_removedFromModuleAndItsTutorials() {
+        Module module = Module.of("CS2103T");
+        Module otherModule = Module.of("CS2101");
+        Tutorial tutorial = Tutorial.of(module, "T01");
+        Tutorial otherTutorial = Tutorial.of(otherModule, "T01");
+        Person alice = new PersonBuilder(ALICE).withModules(module, otherModule)
+                .withTutorials(tutorial, otherTutorial).build();
+        Person benson = new PersonBuilder(BENSON).withModules(module).withTutorials(tutorial).build();
+        addressBook.addModule(module);
+        addressBook.addModule(otherModule);
+        addressBook.addTutorial(tutorial);
+        addressBook.addTutorial(otherTutorial);
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        addressBook.addPerson(CARL);
+        int[] changeCount = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        addressBook.removeModule(module);
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of(otherModule), addressBook.getModuleList());
+        assertEquals(List.of(otherTutorial), addressBook.getTutorialList());
+        assertEquals(new PersonBuilder(ALICE).withModules(otherModule).withTutorials(otherTutorial).build(),
+                addressBook.getPersonList().get(0));
+        assertEquals(new PersonBuilder(BENSON).withModules().withTutorials().build(),
+                addressBook.getPersonList().get(1));
+        assertSame(CARL, addressBook.getPersonList().get(2));
+        assertTrue(addressBook.getPersonList().stream()
+                .noneMatch(addressBook.getSearchPredicate(SearchTerm.module(module))));
+    }
+
+    @Test
+    public void removeTutorial_membersOfTutorial_removedFromTutorialOnly() {
+        Module module = Module.of("CS2103T");
+        Tutorial tutorial = Tutorial.of(module, "T01");
+        Person alice = new PersonBuilder(ALICE).withModules(module).withTutorials(tutorial).build();
+        addressBook.addModule(module);
+        addressBook.addTutorial(tutorial);
+        addressBook.addPerson(alice);
+
+        addressBook.removeTutorial(tutorial);
+
+        assertEquals(Collections.emptyList(), addressBook.getTutorialList());
+        assertEquals(new PersonBuilder(ALICE).withModules(module).withTutorials().build(),
+                addressBook.getPersonList().get(0));
+    }
+
     @Test
     public void equals() {
         AddressBook test = TypicalPersons.getTypicalAddressBook();
@@ -139,8 +214,13 @@ public class AddressBookTest {
         }
 
         @Override
-        public List<Tag> getAttendanceTagsList() {
-            return new ArrayList<Tag>();
+        public Map<StudentNumber, List<String>> getAttendanceRecords() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Set<UniqueField> getUniqueFields() {
+            return Collections.emptySet();
         }
     }
 
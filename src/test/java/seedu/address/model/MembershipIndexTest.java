@@ -0,0 +1,254 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.FIRST_MODULE;
+import static seedu.address.testutil.TypicalModules.SECOND_MODULE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.search.SearchIndex;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchTerm;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.testutil.PersonBuilder;
+
+public class MembershipIndexTest {
+
+    private final MembershipIndex index = new MembershipIndex();
+    private final Tutorial tutorial = new Tutorial(FIRST_MODULE, "T01", "Mon 9PM");
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    public void setUp() {
+        alice = new PersonBuilder(ALICE).withModules(FIRST_MODULE, SECOND_MODULE).withTutorials(tutorial).build();
+        bob = new PersonBuilder(BOB).withModules(FIRST_MODULE).build();
+        index.reset(Arrays.asList(alice, bob));
+    }
+
+    @Test
+    public void match_conjunction_intersectsPostings() {
+        Predicate<Person> inBoth = membersOf(Arrays.asList(FIRST_MODULE, SECOND_MODULE), List.of());
+        assertTrue(inBoth.test(alice));
+        assertFalse(inBoth.test(bob));
+
+        Predicate<Person> inFirst = membersOf(List.of(FIRST_MODULE), List.of());
+        assertTrue(inFirst.test(alice));
+        assertTrue(inFirst.test(bob));
+    }
+
+    @Test
+    public void match_tutorialWithoutTime_matchesStoredTutorial() {
+        Predicate<Person> inTutorial = membersOf(List.of(), List.of(new Tutorial(FIRST_MODULE, "T01")));
+        assertTrue(inTutorial.test(alice));
+        assertFalse(inTutorial.test(bob));
+    }
+
+    @Test
+    public void match_unknownKey_matchesNobody() {
+        Predicate<Person> inTag = index.match(SearchTerm.tag(new Tag("unknown")));
+        assertFalse(inTag.test(alice));
+        assertFalse(inTag.test(bob));
+    }
+
+    @Test
+    public void replace_editedPerson_updatesPostings() {
+        Person editedBob = new PersonBuilder(bob).withModules(SECOND_MODULE).build();
+        index.replace(bob, editedBob);
+        assertFalse(membersOf(List.of(FIRST_MODULE), List.of()).test(editedBob));
+        assertTrue(membersOf(List.of(SECOND_MODULE), List.of()).test(editedBob));
+    }
+
+    @Test
+    public void remove_removedPerson_noLongerMatches() {
+        index.remove(alice);
+        assertFalse(membersOf(List.of(SECOND_MODULE), List.of()).test(alice));
+        assertFalse(membersOf(List.of(), List.of()).test(alice));
+        assertTrue(membersOf(List.of(), List.of()).test(bob));
+    }
+
+    @Test
+    public void match_indexChangedAfterPredicateTested_followsChange() {
+        Predicate<Person> inFirst = membersOf(List.of(FIRST_MODULE), List.of());
+        assertTrue(inFirst.test(alice));
+
+        Person amy = new PersonBuilder().withName("Amy").withModules(FIRST_MODULE).build();
+        index.add(amy);
+        assertTrue(inFirst.test(amy));
+
+        index.replace(alice, new PersonBuilder(alice).withModules().build());
+        assertFalse(inFirst.test(alice));
+    }
+
+    @Test
+    public void match_personsChangedAfterPredicateTested_queryNotEvaluatedAgain() {
+        CountingQuery inFirst = new CountingQuery(SearchTerm.module(FIRST_MODULE));
+        Predicate<Person> predicate = index.match(inFirst);
+        assertTrue(predicate.test(alice));
+        assertTrue(predicate.test(bob));
+
+        Person editedBob = new PersonBuilder(bob).withModules(SECOND_MODULE).build();
+        index.replace(bob, editedBob);
+        Person amy = new PersonBuilder().withName("Amy").withModules(FIRST_MODULE).build();
+        index.add(amy);
+        assertTrue(predicate.test(alice));
+        assertFalse(predicate.test(editedBob));
+        assertTrue(predicate.test(amy));
+        assertEquals(1, inFirst.evaluations);
+
+        // a reset changes every slot, so the query is evaluated again
+        index.reset(List.of(amy, alice));
+        assertTrue(predicate.test(alice));
+        assertEquals(2, inFirst.evaluations);
+    }
+
+    @Test
+    public void add_afterRemove_reusesSlot() {
+        Predicate<Person> inFirst = membersOf(List.of(FIRST_MODULE), List.of());
+        assertTrue(inFirst.test(bob));
+        for (int i = 0; i < 100; i++) {
+            Person person = new PersonBuilder().withName("Student " + i).withModules(FIRST_MODULE).build();
+            index.add(person);
+            index.remove(person);
+        }
+        index.remove(bob);
+        Person amy = new PersonBuilder().withName("Amy").build();
+        index.add(amy);
+
+        assertEquals(2, index.allSlots().length());
+        // amy takes the slot bob had, which does not make her a member of bob's module
+        assertFalse(inFirst.test(amy));
+        assertFalse(inFirst.test(bob));
+        assertTrue(inFirst.test(alice));
+    }
+
+    @Test
+    public void match_nameAndModule_matchesNamedMemberOnly() {
+        Predicate<Person> aliceInFirst = index.match(SearchQuery.and(List.of(
+                SearchTerm.module(FIRST_MODULE), SearchTerm.name(alice.getName()))));
+        assertTrue(aliceInFirst.test(alice));
+        assertFalse(aliceInFirst.test(bob));
+    }
+
+    @Test
+    public void cardinalityOf_keptUpToDate() {
+        assertEquals(2, index.cardinalityOf(SearchTerm.module(FIRST_MODULE)));
+        assertEquals(1, index.cardinalityOf(SearchTerm.tutorial(tutorial)));
+        assertEquals(1, index.cardinalityOf(SearchTerm.name(bob.getName())));
+
+        index.remove(bob);
+        assertEquals(1, index.cardinalityOf(SearchTerm.module(FIRST_MODULE)));
+        assertEquals(0, index.cardinalityOf(SearchTerm.name(bob.getName())));
+        assertEquals(0, index.cardinalityOf(SearchTerm.tag(new Tag("unknown"))));
+    }
+
+    @Test
+    public void match_negation_complementsLivePersons() {
+        index.remove(alice);
+        Predicate<Person> notInSecond = index.match(SearchQuery.not(SearchTerm.module(SECOND_MODULE)));
+        assertTrue(notInSecond.test(bob));
+        assertFalse(notInSecond.test(alice));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void match_contactDetails_exactMatchOnly() {
+        assertTrue(index.match(SearchTerm.email(alice.getEmail())).test(alice));
+        assertFalse(index.match(SearchTerm.email(alice.getEmail())).test(bob));
+        assertTrue(index.match(SearchTerm.studentNumber(bob.getStudentNumber())).test(bob));
+        assertTrue(index.match(SearchTerm.telegram(alice.getTelegram())).test(alice));
+        assertTrue(index.match(SearchTerm.phone(alice.getPhone())).test(alice));
+        assertFalse(index.match(SearchTerm.phone(new Phone("943512"))).test(alice));
+    }
+
+    @Test
+    public void match_emailDomain_ignoresCase() {
+        Person carol = new PersonBuilder().withName("Carol").withEmail("carol@Example.COM").build();
+        index.add(carol);
+        Predicate<Person> inDomain = index.match(SearchTerm.emailDomain("EXAMPLE.com"));
+        assertTrue(inDomain.test(alice));
+        assertTrue(inDomain.test(carol));
+        assertFalse(index.match(SearchTerm.emailDomain("u.nus.edu")).test(alice));
+    }
+
+    @Test
+    public void match_phoneSuffix_matchesNumbersEndingWithDigits() {
+        Person carol = new PersonBuilder().withName("Carol").withPhone("81251253").build();
+        index.add(carol);
+        assertEquals(2, index.cardinalityOf(SearchTerm.phoneSuffix("1253")));
+        Predicate<Person> endsWith1253 = index.match(SearchTerm.phoneSuffix("1253"));
+        assertTrue(endsWith1253.test(alice));
+        assertTrue(endsWith1253.test(carol));
+        assertFalse(endsWith1253.test(bob));
+        assertTrue(index.match(SearchTerm.phoneSuffix("251253")).test(carol));
+        assertFalse(index.match(SearchTerm.phoneSuffix("251253")).test(alice));
+
+        index.replace(carol, new PersonBuilder(carol).withPhone("81250000").build());
+        assertEquals(1, index.cardinalityOf(SearchTerm.phoneSuffix("1253")));
+    }
+
+    @Test
+    public void match_manyPersonsInPosting_matchesAll() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i).withTags(i % 2 == 0 ? "even" : "odd").build());
+        }
+        index.reset(persons);
+        index.remove(persons.get(0));
+        assertEquals(99, index.cardinalityOf(SearchTerm.tag(new Tag("even"))));
+        Predicate<Person> even = index.match(SearchTerm.tag(new Tag("even")));
+        assertFalse(even.test(persons.get(0)));
+        assertTrue(even.test(persons.get(198)));
+        assertFalse(even.test(persons.get(199)));
+    }
+
+    private Predicate<Person> membersOf(List<Module> modules, List<Tutorial> tutorials) {
+        List<SearchTerm> terms = new ArrayList<>();
+        modules.forEach(module -> terms.add(SearchTerm.module(module)));
+        tutorials.forEach(tutorial -> terms.add(SearchTerm.tutorial(tutorial)));
+        return index.match(SearchQuery.and(terms));
+    }
+
+    /**
+     * A query that counts how many times it is evaluated against an index.
+     */
+    private static class CountingQuery implements SearchQuery {
+        private final SearchQuery query;
+        private int evaluations;
+
+        CountingQuery(SearchQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public BitSet evaluate(SearchIndex searchIndex) {
+            evaluations++;
+            return query.evaluate(searchIndex);
+        }
+
+        @Override
+        public int estimateCardinality(SearchIndex searchIndex) {
+            return query.estimateCardinality(searchIndex);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return query.test(person);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -11,12 +13,24 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.module.Module;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameKeyword;
+import seedu.address.model.person.NameMatches;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchTerm;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutorial.Tutorial;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +102,150 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void commitBatch_changesInBatch_publishedAsSingleChange() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("friend", "colleague").build();
+        Person editedBenson = new PersonBuilder(BENSON).withTags("colleague").build();
+        int[] changeCount = new int[1];
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.beginBatch();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.beginBatch();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.commitBatch();
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        // changes are visible to the model but not yet to the person lists
+        assertTrue(modelManager.hasPerson(editedBenson));
+        assertEquals(0, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.commitBatch();
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void abortBatch_changesInBatch_restored() {
+        Module module = new Module("CS2103T");
+        Person alice = new PersonBuilder(ALICE).withModules(module).build();
+        Tag lesson = new Tag("W1");
+        modelManager.addModule(module);
+        modelManager.addPerson(alice);
+        modelManager.addPerson(BENSON);
+        modelManager.markAttendance(BENSON, lesson);
+        Predicate<Person> moduleFilter = modelManager.getSearchPredicate(SearchTerm.module(module));
+        modelManager.updateFilteredPersonList(moduleFilter);
+        int[] changeCount = new int[1];
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.beginBatch();
+        modelManager.deleteModule(module);
+        modelManager.beginBatch();
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withStudentNumber("A0000000Z").build());
+        modelManager.abortBatch();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.commitBatch();
+
+        // the aborted nested batch discards the changes of the whole batch
+        assertEquals(0, changeCount[0]);
+        assertEquals(List.of(alice, BENSON), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.hasModule(module));
+        assertTrue(modelManager.hasAttendance(BENSON, lesson));
+        assertEquals(List.of(alice), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getSearchPredicate(SearchTerm.module(module)).test(alice));
+
+        // the person indexes agree with the restored persons
+        modelManager.setPerson(alice, ALICE);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getSearchPredicate_repeatedQuery_answeredFromCacheUntilModified() {
+        modelManager.addPerson(ALICE);
+        SearchQuery query = SearchTerm.name(ALICE.getName());
+
+        Predicate<Person> first = modelManager.getSearchPredicate(query);
+        assertSame(first, modelManager.getSearchPredicate(SearchTerm.name(ALICE.getName())));
+        assertEquals(1, modelManager.getQueryCacheHits());
+        assertEquals(1, modelManager.getQueryCacheMisses());
+
+        modelManager.addPerson(BENSON);
+        assertNotSame(first, modelManager.getSearchPredicate(query));
+        assertEquals(2, modelManager.getQueryCacheMisses());
+    }
+
+    @Test
+    public void getVersion_queriesAndChanges_increasesOnlyOnChange() {
+        long initialVersion = modelManager.getVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.getSearchPredicate(SearchTerm.name(ALICE.getName()));
+        assertEquals(initialVersion, modelManager.getVersion());
+
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getVersion() > initialVersion);
+    }
+
+    @Test
+    public void getSearchPredicate_moduleDeletedWhileFiltered_filterFollowsChange() {
+        Module module = new Module("CS2103T");
+        Tutorial tutorial = new Tutorial(module, "T11");
+        Person alice = new PersonBuilder(ALICE).withModules(module).withTutorials(tutorial).build();
+        Person benson = new PersonBuilder(BENSON).withModules(module).build();
+        modelManager.addModule(module);
+        modelManager.addTutorial(tutorial);
+        modelManager.addPerson(alice);
+        modelManager.addPerson(benson);
+
+        modelManager.updateFilteredPersonList(modelManager.getSearchPredicate(SearchTerm.tutorial(tutorial)));
+        assertEquals(List.of(alice), modelManager.getFilteredPersonList());
+        modelManager.deleteTutorial(tutorial);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(modelManager.getSearchPredicate(SearchTerm.module(module)));
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+        modelManager.deleteModule(module);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // persons given the module again are shown again
+        modelManager.addModule(module);
+        modelManager.setPerson(modelManager.getAddressBook().getPersonList().get(1), benson);
+        assertEquals(List.of(benson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getNameMatches_personRenamedWhileFiltered_filterFollowsChange() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameMatches matches = modelManager.getNameMatches(List.of(NameKeyword.parse("Benson")));
+        modelManager.updateFilteredPersonList(matches, matches.byDistance());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Benson").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Ben Meier").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getNameMatches_keywordsInAnyOrder_answeredFromCache() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameMatches matches = modelManager.getNameMatches(List.of(NameKeyword.parse("alice"),
+                NameKeyword.parse("benson")));
+        assertSame(matches, modelManager.getNameMatches(List.of(NameKeyword.parse("benson"),
+                NameKeyword.parse("alice"))));
+        assertEquals(1, modelManager.getQueryCacheHits());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
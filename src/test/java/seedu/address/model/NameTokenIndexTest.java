@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameKeyword;
+import seedu.address.model.person.NameMatches;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.reset(Arrays.asList(ALICE, BENSON, CARL));
+    }
+
+    @Test
+    public void match_wordsInDifferentCase_returnsUnionOfMatches() {
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName()), match("aLiCe", "MEIER", "Nobody").keySet());
+    }
+
+    @Test
+    public void match_partialWord_returnsNoMatch() {
+        assertEquals(Map.of(), match("Ali"));
+    }
+
+    @Test
+    public void match_prefix_returnsWordsStartingWithPrefix() {
+        assertEquals(Map.of(ALICE.getName(), 2), match("Ali*"));
+        assertEquals(Map.of(ALICE.getName(), 0, CARL.getName(), 2), match("alice*", "Ca*"));
+    }
+
+    @Test
+    public void match_fuzzy_returnsWordsWithinEditDistance() {
+        assertEquals(Map.of(BENSON.getName(), 1), match("~Bensen"));
+        assertEquals(Map.of(BENSON.getName(), 2), match("~Bnsen"));
+        assertEquals(Map.of(), match("~Bnsn"));
+        // an exact match of another keyword is closer
+        assertEquals(Map.of(BENSON.getName(), 0), match("~Bensen", "benson"));
+    }
+
+    @Test
+    public void replace_nameChanged_indexesNewName() {
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        index.replace(ALICE, renamedAlice);
+        assertEquals(Map.of(), match("Alice"));
+        assertEquals(Map.of(renamedAlice.getName(), 0), match("alicia"));
+        assertEquals(Map.of(renamedAlice.getName(), 0), match("Pauline"));
+        assertEquals(Map.of(renamedAlice.getName(), 2), match("~Alice"));
+    }
+
+    @Test
+    public void remove_person_noLongerMatches() {
+        index.remove(BENSON);
+        assertEquals(Map.of(), match("Benson"));
+        assertEquals(Map.of(), match("Ben*"));
+        assertEquals(Map.of(), match("~Benson"));
+    }
+
+    @Test
+    public void matchNames_personsAddedOrRenamedLater_matchedByKeywords() {
+        NameMatches matches = index.matchNames(List.of(NameKeyword.parse("Alicia"), NameKeyword.parse("~Mayer")));
+        assertFalse(matches.test(ALICE));
+        assertTrue(matches.test(BENSON));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        index.replace(ALICE, renamedAlice);
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        index.replace(BENSON, renamedBenson);
+        Person daniel = new PersonBuilder().withName("Daniel Maier").build();
+        index.add(daniel);
+
+        assertTrue(matches.test(renamedAlice));
+        assertFalse(matches.test(renamedBenson));
+        assertTrue(matches.test(daniel));
+        // an exact match is closer than a fuzzy one
+        assertEquals(List.of(renamedAlice, daniel), Stream.of(daniel, renamedAlice)
+                .sorted(matches.byDistance()).collect(Collectors.toList()));
+    }
+
+    private Map<Name, Integer> match(String... keywords) {
+        return index.match(Arrays.stream(keywords).map(NameKeyword::parse).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentNumber;
+
+public class AttendanceLedgerTest {
+
+    private static final StudentNumber FIRST_STUDENT = new StudentNumber("A0000001X");
+    private static final StudentNumber SECOND_STUDENT = new StudentNumber("A0000002X");
+
+    private final AttendanceLedger ledger = new AttendanceLedger();
+
+    @Test
+    public void mark_nullStudentNumber_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ledger.mark(null, "S1"));
+    }
+
+    @Test
+    public void mark_newAttendance_returnsTrue() {
+        assertTrue(ledger.mark(FIRST_STUDENT, "S1"));
+        assertTrue(ledger.isMarked(FIRST_STUDENT, "S1"));
+        assertFalse(ledger.isMarked(FIRST_STUDENT, "S2"));
+        assertFalse(ledger.isMarked(SECOND_STUDENT, "S1"));
+    }
+
+    @Test
+    public void mark_existingAttendance_returnsFalse() {
+        ledger.mark(FIRST_STUDENT, "S1");
+        assertFalse(ledger.mark(FIRST_STUDENT, "S1"));
+    }
+
+    @Test
+    public void unmark_existingAttendance_returnsTrue() {
+        ledger.mark(FIRST_STUDENT, "S1");
+        assertTrue(ledger.unmark(FIRST_STUDENT, "S1"));
+        assertFalse(ledger.isMarked(FIRST_STUDENT, "S1"));
+        assertEquals(Collections.emptyMap(), ledger.asRecords());
+    }
+
+    @Test
+    public void unmark_missingAttendance_returnsFalse() {
+        assertFalse(ledger.unmark(FIRST_STUDENT, "S1"));
+    }
+
+    @Test
+    public void getLessons_orderOfFirstRecord() {
+        ledger.mark(SECOND_STUDENT, "S2");
+        ledger.mark(FIRST_STUDENT, "S1");
+        ledger.mark(FIRST_STUDENT, "S2");
+        assertEquals(List.of("S2", "S1"), ledger.getLessons(FIRST_STUDENT));
+    }
+
+    @Test
+    public void moveStudent_mergesIntoExistingRow() {
+        ledger.mark(FIRST_STUDENT, "S1");
+        ledger.mark(SECOND_STUDENT, "S2");
+        ledger.moveStudent(FIRST_STUDENT, SECOND_STUDENT);
+        assertEquals(Map.of(SECOND_STUDENT, List.of("S1", "S2")), ledger.asRecords());
+    }
+
+    @Test
+    public void removeStudent_removesAllAttendance() {
+        ledger.mark(FIRST_STUDENT, "S1");
+        ledger.mark(FIRST_STUDENT, "S2");
+        ledger.removeStudent(FIRST_STUDENT);
+        assertFalse(ledger.isMarked(FIRST_STUDENT, "S1"));
+        assertEquals(Collections.emptyList(), ledger.getLessons(FIRST_STUDENT));
+    }
+
+    @Test
+    public void equals() {
+        ledger.mark(FIRST_STUDENT, "S1");
+        ledger.mark(FIRST_STUDENT, "S2");
+
+        AttendanceLedger sameRecordsDifferentOrder = new AttendanceLedger();
+        sameRecordsDifferentOrder.setRecords(Map.of(FIRST_STUDENT, List.of("S2", "S1")));
+        assertEquals(ledger, sameRecordsDifferentOrder);
+        assertEquals(ledger.hashCode(), sameRecordsDifferentOrder.hashCode());
+
+        AttendanceLedger differentRecords = new AttendanceLedger();
+        differentRecords.mark(SECOND_STUDENT, "S1");
+        assertNotEquals(ledger, differentRecords);
+        assertFalse(ledger.equals(null));
+    }
+}
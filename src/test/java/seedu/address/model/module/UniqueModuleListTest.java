@@ -1,9 +1,12 @@
 package seedu.address.model.module;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.module.exceptions.DuplicateModuleException;
@@ -24,6 +27,19 @@ public class UniqueModuleListTest {
         Module module = new Module("CS2100");
         assertThrows(ModuleNotFoundException.class, () -> uniqueModuleList.remove(module));
     }
+
+    @Test
+    public void get_moduleInList_returnsModule() {
+        Module module = new Module("CS2100");
+        uniqueModuleList.add(module);
+        assertTrue(uniqueModuleList.contains(new Module("CS2100")));
+        assertEquals(Optional.of(module), uniqueModuleList.get("CS2100"));
+
+        uniqueModuleList.remove(module);
+        assertFalse(uniqueModuleList.contains(module));
+        assertEquals(Optional.empty(), uniqueModuleList.get("CS2100"));
+    }
+
     @Test
     public void equals() {
         UniqueModuleList test = new UniqueModuleList();
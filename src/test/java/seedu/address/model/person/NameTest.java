@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +41,12 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getFoldedWords() {
+        assertEquals(List.of("peter", "jack"), new Name("Peter  Jack").getFoldedWords());
+        assertEquals(List.of("2nd", "david"), new Name("2nd DAVID ").getFoldedWords());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -39,6 +40,26 @@ public class PersonTest {
         assertEquals(expected, testPerson.getUiOfModulesAndTutorials());
     }
 
+    @Test
+    public void builder_editOneMembership_sharesUnchangedComponents() {
+        Module module = new Module("CS1000");
+        Person person = new PersonBuilder(ALICE).withModules(module).build();
+        Person editedPerson = new Person.Builder(person).addTutorial(new Tutorial(module, "T01", "Mon 6pm")).build();
+
+        assertSame(person.getName(), editedPerson.getName());
+        assertSame(person.getTags(), editedPerson.getTags());
+        assertSame(person.getModules(), editedPerson.getModules());
+        assertEquals(1, editedPerson.getTutorials().size());
+        assertEquals(editedPerson, new PersonBuilder(person).withTutorials(new Tutorial(module, "T01")).build());
+    }
+
+    @Test
+    public void builder_noChanges_equalToSource() {
+        Person rebuilt = new Person.Builder(ALICE).build();
+        assertEquals(ALICE, rebuilt);
+        assertEquals(ALICE.hashCode(), rebuilt.hashCode());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -7,13 +7,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -108,6 +113,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -126,6 +148,23 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_personInMiddle_remainingPersonsCanStillBeReplaced() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -161,6 +200,192 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void replaceAll_identityChanged_throwsIllegalArgumentException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.replaceAll(person -> BOB));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_someRewritten_singleChangeAndOriginalReturned() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        List<Person> original = uniquePersonList.replaceAll(person -> person == BOB ? editedBob : person);
+
+        assertEquals(List.of(ALICE, BOB), original);
+        assertEquals(List.of(ALICE, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniquePersonList.contains(editedBob));
+    }
+
+    @Test
+    public void replaceAll_nothingRewritten_noChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+        uniquePersonList.replaceAll(person -> person);
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void commitBatch_changesInBatch_publishedOnCommit() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(CARL);
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, changeCount[0]);
+
+        uniquePersonList.commitBatch();
+        assertEquals(List.of(editedBob, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void commitBatch_loneReplacement_publishedAsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.wasReplaced() + ":" + change.getAddedSize());
+            }
+        });
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(BOB, editedBob);
+        List<Person> inBatch = new ArrayList<>();
+        uniquePersonList.forEach(inBatch::add);
+        assertEquals(List.of(ALICE, editedBob), inBatch);
+        assertTrue(changes.isEmpty());
+        uniquePersonList.commitBatch();
+
+        assertEquals(List.of("1:true:1"), changes);
+        assertEquals(List.of(ALICE, editedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void abortBatch_changesInBatch_discarded() {
+        uniquePersonList.setUniqueFields(Set.of(UniqueField.STUDENT_NUMBER));
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setUniqueFields(Set.of());
+        uniquePersonList.abortBatch();
+
+        assertEquals(0, changeCount[0]);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Set.of(UniqueField.STUDENT_NUMBER), uniquePersonList.getUniqueFields());
+        assertTrue(uniquePersonList.contains(ALICE));
+        Person sameStudentNumber = new PersonBuilder(CARL).withStudentNumber(BOB.getStudentNumber().value).build();
+        assertThrows(DuplicateFieldException.class, () -> uniquePersonList.add(sameStudentNumber));
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(List.of(ALICE, editedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_uniqueFieldInUse_throwsDuplicateFieldException() {
+        uniquePersonList.setUniqueFields(Set.of(UniqueField.STUDENT_NUMBER, UniqueField.EMAIL));
+        uniquePersonList.add(ALICE);
+        Person sameStudentNumber = new PersonBuilder(BOB).withStudentNumber(ALICE.getStudentNumber().value).build();
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertThrows(DuplicateFieldException.class, "The student number A0203220J is already used by Alice Pauline", ()
+            -> uniquePersonList.add(sameStudentNumber));
+        assertThrows(DuplicateFieldException.class, () -> uniquePersonList.add(sameEmail));
+
+        // fields that are not kept unique may be shared
+        uniquePersonList.add(new PersonBuilder(BOB).withTelegram(ALICE.getTelegram().value).build());
+    }
+
+    @Test
+    public void setPerson_uniqueFieldInUse_throwsDuplicateFieldException() {
+        uniquePersonList.setUniqueFields(Set.of(UniqueField.STUDENT_NUMBER));
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withStudentNumber(ALICE.getStudentNumber().value).build();
+        assertThrows(DuplicateFieldException.class, () -> uniquePersonList.setPerson(BOB, editedBob));
+
+        // a person keeps its own value
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        // a removed person frees its value
+        uniquePersonList.remove(editedAlice);
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(List.of(editedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_placeholdersForUniqueFields_noConflict() {
+        uniquePersonList.setUniqueFields(Set.of(UniqueField.STUDENT_NUMBER, UniqueField.TELEGRAM));
+        Person placeholderAlice = new PersonBuilder(ALICE).withStudentNumber(StudentNumber.PLACEHOLDER)
+                .withTelegram(Telegram.PLACEHOLDER).build();
+        Person placeholderBob = new PersonBuilder(BOB).withStudentNumber(StudentNumber.PLACEHOLDER)
+                .withTelegram(Telegram.PLACEHOLDER).build();
+        uniquePersonList.add(placeholderAlice);
+        uniquePersonList.add(placeholderBob);
+
+        // a placeholder may also be given to a person being edited, or replaced by a real value
+        Person editedCarl = new PersonBuilder(CARL).withStudentNumber(StudentNumber.PLACEHOLDER).build();
+        uniquePersonList.add(CARL);
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.setPerson(placeholderBob, BOB);
+        assertEquals(List.of(placeholderAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_placeholdersForUniqueFields_noConflict() {
+        List<Person> placeholders = List.of(
+                new PersonBuilder(ALICE).withStudentNumber(StudentNumber.PLACEHOLDER).build(),
+                new PersonBuilder(BOB).withStudentNumber(StudentNumber.PLACEHOLDER).build());
+        uniquePersonList.setPersons(placeholders, Set.of(UniqueField.STUDENT_NUMBER));
+        assertEquals(placeholders, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setUniqueFields_sharedValueInList_throwsDuplicateFieldException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build());
+        assertThrows(DuplicateFieldException.class, () -> uniquePersonList.setUniqueFields(Set.of(UniqueField.EMAIL)));
+        assertEquals(Collections.emptySet(), uniquePersonList.getUniqueFields());
+
+        uniquePersonList.setUniqueFields(Set.of(UniqueField.STUDENT_NUMBER));
+        assertEquals(Set.of(UniqueField.STUDENT_NUMBER), uniquePersonList.getUniqueFields());
+    }
+
+    @Test
+    public void setPersons_listWithSharedUniqueField_throwsDuplicateFieldException() {
+        List<Person> listWithSharedStudentNumber = Arrays.asList(ALICE,
+                new PersonBuilder(BOB).withStudentNumber(ALICE.getStudentNumber().value).build());
+        uniquePersonList.setPersons(listWithSharedStudentNumber);
+        assertThrows(DuplicateFieldException.class, ()
+            -> uniquePersonList.setPersons(listWithSharedStudentNumber, Set.of(UniqueField.STUDENT_NUMBER)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
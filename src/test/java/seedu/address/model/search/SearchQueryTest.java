@@ -0,0 +1,144 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.FIRST_MODULE;
+import static seedu.address.testutil.TypicalModules.SECOND_MODULE;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchQueryTest {
+
+    private static final SearchTerm COMMON = SearchTerm.module(FIRST_MODULE);
+    private static final SearchTerm RARE = SearchTerm.module(SECOND_MODULE);
+    private static final SearchTerm PROBATION = SearchTerm.tag(new Tag("probation"));
+    private static final SearchTerm ABSENT = SearchTerm.tag(new Tag("absent"));
+
+    private final StubIndex index = new StubIndex(6)
+            .with(COMMON, 0, 1, 2, 3, 4)
+            .with(RARE, 3)
+            .with(PROBATION, 4, 5);
+
+    @Test
+    public void evaluate_conjunction_intersects() {
+        assertEquals(slots(3), SearchQuery.and(List.of(COMMON, RARE)).evaluate(index));
+        assertEquals(slots(0, 1, 2, 3, 4, 5), SearchQuery.and(List.of()).evaluate(index));
+    }
+
+    @Test
+    public void evaluate_conjunction_startsFromMostSelectiveTerm() {
+        SearchQuery.and(List.of(COMMON, PROBATION, ABSENT)).evaluate(index);
+        assertEquals(List.of(ABSENT), index.visited);
+    }
+
+    @Test
+    public void evaluate_disjunction_unites() {
+        assertEquals(slots(3, 4, 5), SearchQuery.or(List.of(RARE, PROBATION)).evaluate(index));
+        assertEquals(slots(), SearchQuery.or(List.of()).evaluate(index));
+    }
+
+    @Test
+    public void evaluate_negation_complements() {
+        assertEquals(slots(0, 1, 2, 4, 5), SearchQuery.not(RARE).evaluate(index));
+        assertEquals(slots(0, 1, 2), SearchQuery.and(List.of(COMMON, SearchQuery.not(PROBATION), SearchQuery.not(RARE)))
+                .evaluate(index));
+    }
+
+    @Test
+    public void test_person_combinesTermsOfPerson() {
+        Person member = new PersonBuilder().withModules(FIRST_MODULE).withTags("probation").build();
+        assertTrue(SearchQuery.and(List.of(COMMON, PROBATION)).test(member));
+        assertFalse(SearchQuery.and(List.of(COMMON, SearchQuery.not(PROBATION))).test(member));
+        assertTrue(SearchQuery.or(List.of(RARE, PROBATION)).test(member));
+        assertFalse(SearchQuery.or(List.of()).test(member));
+    }
+
+    @Test
+    public void evaluate_nested_combinesSetOperations() {
+        // common AND NOT rare OR probation
+        SearchQuery query = SearchQuery.or(List.of(SearchQuery.and(List.of(COMMON, SearchQuery.not(RARE))), PROBATION));
+        assertEquals(slots(0, 1, 2, 4, 5), query.evaluate(index));
+    }
+
+    @Test
+    public void evaluate_doesNotModifyPostings() {
+        SearchQuery.and(List.of(COMMON, RARE)).evaluate(index);
+        SearchQuery.not(COMMON).evaluate(index);
+        assertEquals(slots(0, 1, 2, 3, 4), COMMON.evaluate(index));
+        assertEquals(slots(0, 1, 2, 3, 4, 5), index.allSlots());
+    }
+
+    @Test
+    public void estimateCardinality() {
+        assertEquals(1, SearchQuery.and(List.of(COMMON, RARE)).estimateCardinality(index));
+        assertEquals(6, SearchQuery.or(List.of(COMMON, PROBATION)).estimateCardinality(index));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(SearchQuery.and(List.of(COMMON, RARE)), SearchQuery.and(List.of(COMMON, RARE)));
+        assertEquals(SearchQuery.not(COMMON), SearchQuery.not(SearchTerm.module(FIRST_MODULE)));
+        assertEquals(COMMON, SearchQuery.and(List.of(COMMON)));
+        assertNotEquals(SearchQuery.and(List.of(COMMON, RARE)), SearchQuery.or(List.of(COMMON, RARE)));
+        assertNotEquals(SearchQuery.not(COMMON), COMMON);
+    }
+
+    private static BitSet slots(int... slots) {
+        BitSet set = new BitSet();
+        for (int slot : slots) {
+            set.set(slot);
+        }
+        return set;
+    }
+
+    /**
+     * A {@code SearchIndex} backed by a map of postings, recording the terms whose postings are read.
+     */
+    private static class StubIndex implements SearchIndex {
+        private final Map<SearchTerm, BitSet> postings = new HashMap<>();
+        private final BitSet all = new BitSet();
+        private final List<SearchTerm> visited = new ArrayList<>();
+
+        StubIndex(int size) {
+            all.set(0, size);
+        }
+
+        StubIndex with(SearchTerm term, int... slots) {
+            postings.put(term, slots(slots));
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return all.cardinality();
+        }
+
+        @Override
+        public BitSet allSlots() {
+            return all;
+        }
+
+        @Override
+        public BitSet slotsOf(SearchTerm term) {
+            visited.add(term);
+            return postings.getOrDefault(term, new BitSet());
+        }
+
+        @Override
+        public int cardinalityOf(SearchTerm term) {
+            return postings.getOrDefault(term, new BitSet()).cardinality();
+        }
+    }
+}
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTutorials.TUTORIAL_TUT1_MON9PM;
+import static seedu.address.testutil.TypicalTutorials.TUTORIAL_TUT2_TUE9PM;
+
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -68,6 +72,29 @@ public class UniqueTutorialListTest {
         assertEquals(expectedUniqueTutorialList, uniqueTutorialList);
     }
 
+    @Test
+    public void get_tutorialInList_returnsStoredTutorial() {
+        uniqueTutorialList.add(TUTORIAL_TUT1_MON9PM);
+        assertEquals(Optional.of(TUTORIAL_TUT1_MON9PM), uniqueTutorialList.get(
+                TUTORIAL_TUT1_MON9PM.getModuleCode(), TUTORIAL_TUT1_MON9PM.getTutName()));
+        assertEquals(Optional.empty(), uniqueTutorialList.get(TUTORIAL_TUT1_MON9PM.getModuleCode(), "TUT9"));
+    }
+
+    @Test
+    public void removeTutorialsOf_tutorialsOfModule_removesOnlyThoseTutorials() {
+        Tutorial otherModuleTutorial = new Tutorial(TypicalModules.SECOND_MODULE, "TUT1", "Mon 9pm");
+        uniqueTutorialList.add(TUTORIAL_TUT1_MON9PM);
+        uniqueTutorialList.add(otherModuleTutorial);
+        uniqueTutorialList.add(TUTORIAL_TUT2_TUE9PM);
+        assertEquals(List.of(TUTORIAL_TUT1_MON9PM, TUTORIAL_TUT2_TUE9PM),
+                uniqueTutorialList.getTutorialsOf(TUTORIAL_TUT1_MON9PM.getModuleCode()));
+
+        uniqueTutorialList.removeTutorialsOf(TUTORIAL_TUT1_MON9PM.getModuleCode());
+        assertEquals(List.of(otherModuleTutorial), uniqueTutorialList.asUnmodifiableObservableList());
+        assertFalse(uniqueTutorialList.contains(TUTORIAL_TUT2_TUE9PM));
+        assertEquals(List.of(), uniqueTutorialList.getTutorialsOf(TUTORIAL_TUT1_MON9PM.getModuleCode()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
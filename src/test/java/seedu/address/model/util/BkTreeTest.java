@@ -0,0 +1,61 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private final BkTree<String> tree = new BkTree<>(StringUtil::editDistance);
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void add_existingElement_returnsFalse() {
+        assertTrue(tree.add("alice"));
+        assertFalse(tree.add("alice"));
+    }
+
+    @Test
+    public void search_emptyTree_returnsEmptyMap() {
+        assertEquals(Map.of(), tree.search("alice", 2));
+    }
+
+    @Test
+    public void search_matchesSameAsLinearScan() {
+        List<String> words = List.of("alice", "alicia", "bernice", "bernie", "benson", "carl", "karl", "kurz",
+                "kunz", "meier", "meyer", "mueller", "elle", "ella", "fiona");
+        words.forEach(tree::add);
+        for (String query : List.of("bernce", "alise", "karl", "meir", "zzz", "")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> found = tree.search(query, maxDistance);
+                for (String word : words) {
+                    int distance = StringUtil.editDistance(query, word);
+                    if (distance <= maxDistance) {
+                        assertEquals(Integer.valueOf(distance), found.get(word));
+                    } else {
+                        assertFalse(found.containsKey(word));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void clear_removesAllElements() {
+        tree.add("alice");
+        tree.clear();
+        assertEquals(Map.of(), tree.search("alice", 0));
+    }
+}
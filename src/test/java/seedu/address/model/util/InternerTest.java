@@ -0,0 +1,70 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.tutorial.Tutorial;
+
+public class InternerTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String, String>(null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new);
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_returnsSameInstance() {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new);
+        StringBuilder first = interner.intern("key");
+        assertSame(first, interner.intern(new String("key")));
+        assertNotSame(first, interner.intern("other"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_valueNoLongerReferenced_forgotten() throws Exception {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new);
+        StringBuilder kept = interner.intern("kept");
+        for (int i = 0; i < 100; i++) {
+            interner.intern("queried " + i);
+        }
+
+        for (int attempt = 0; attempt < 50 && interner.size() > 1; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, interner.size());
+        assertSame(kept, interner.intern("kept"));
+    }
+
+    @Test
+    public void tutorialOf_sameDetails_returnsSameInstance() {
+        Tutorial tutorial = Tutorial.of(Module.of("CS3230"), "T07", "Mon 9PM");
+        assertSame(tutorial, Tutorial.of(new Module("CS3230"), "T07", "Mon 9PM"));
+        assertNotSame(tutorial, Tutorial.of(Module.of("CS3230"), "T08"));
+    }
+
+    @Test
+    public void tutorialOf_sameModuleAndName_returnsSameInstanceWhateverTheTime() {
+        Tutorial tutorial = Tutorial.of(Module.of("CS3230"), "T09", "Mon 9PM");
+        // tutorials are equal whatever their time, so one looked up without a time is the shared one
+        assertSame(tutorial, Tutorial.of(Module.of("CS3230"), "T09"));
+
+        // a tutorial with another time is not shared, so that its time is kept
+        Tutorial otherTime = Tutorial.of(Module.of("CS3230"), "T09", "Tue 9PM");
+        assertNotSame(tutorial, otherTime);
+        assertEquals("Tue 9PM", otherTime.getTime());
+        assertEquals("Mon 9PM", Tutorial.of(Module.of("CS3230"), "T09", "Mon 9PM").getTime());
+    }
+}
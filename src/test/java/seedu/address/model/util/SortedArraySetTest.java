@@ -0,0 +1,79 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedArraySetTest {
+
+    private static final Comparator<String> ORDER = Comparator.naturalOrder();
+
+    private final SortedArraySet<String> set = SortedArraySet.copyOf(Arrays.asList("c", "a", "b", "a"), ORDER);
+
+    @Test
+    public void copyOf_unsortedWithDuplicates_sortedAndUnique() {
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(set));
+        assertEquals(Set.of("a", "b", "c"), set);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")).hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void copyOf_sortedArraySetWithSameComparator_returnsSameInstance() {
+        assertSame(set, SortedArraySet.copyOf(set, ORDER));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SortedArraySet.copyOf(Arrays.asList("a", null), ORDER));
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("d"));
+        assertFalse(set.contains(null));
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    public void with_newElement_insertedInOrder() {
+        assertEquals(Arrays.asList("a", "b", "ba", "c"), new ArrayList<>(set.with("ba")));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void with_existingElement_returnsSameInstance() {
+        assertSame(set, set.with("a"));
+    }
+
+    @Test
+    public void without() {
+        assertEquals(Arrays.asList("a", "c"), new ArrayList<>(set.without("b")));
+        assertSame(set, set.without("d"));
+    }
+
+    @Test
+    public void withoutIf() {
+        assertEquals(List.of("b"), new ArrayList<>(set.withoutIf(element -> !element.equals("b"))));
+        assertSame(set, set.withoutIf(element -> false));
+    }
+
+    @Test
+    public void mutators_throwUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> set.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("d"));
+        assertThrows(UnsupportedOperationException.class, () -> set.clear());
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class VersionedCacheTest {
+
+    private final List<String> computed = new ArrayList<>();
+    private final VersionedCache<String, String> cache = new VersionedCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedCache<String, String>(0));
+    }
+
+    @Test
+    public void get_sameVersion_reusesValue() {
+        assertEquals("A", get("a", 0));
+        assertEquals("A", get("a", 0));
+        assertEquals(List.of("a"), computed);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void get_newerVersion_recomputesValue() {
+        get("a", 0);
+        get("a", 1);
+        get("a", 1);
+        assertEquals(List.of("a", "a"), computed);
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void get_full_evictsLeastRecentlyUsed() {
+        get("a", 0);
+        get("b", 0);
+        get("a", 0);
+        get("c", 0);
+        computed.clear();
+
+        get("a", 0);
+        get("b", 0);
+        assertEquals(List.of("b"), computed);
+    }
+
+    private String get(String key, long version) {
+        return cache.get(key, version, k -> {
+            computed.add(k);
+            return k.toUpperCase();
+        });
+    }
+}
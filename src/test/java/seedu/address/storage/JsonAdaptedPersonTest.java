@@ -1,25 +1,36 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.StudentNumber;
 import seedu.address.model.person.Telegram;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutorial.Tutorial;
 
 public class JsonAdaptedPersonTest {
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPersonTest.class);
+
     private static final String INVALID_NAME = "R@chel";
     private static final String INVALID_PHONE = "+651234";
     private static final String INVALID_EMAIL = "example.com";
@@ -48,6 +59,43 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_manyPersonsWithSameMemberships_shareInstances() throws Exception {
+        int numberOfPersons = 1000;
+        List<JsonAdaptedTag> tags = List.of(new JsonAdaptedTag("friends"), new JsonAdaptedTag("S1"));
+        List<JsonAdaptedModule> modules = List.of(new JsonAdaptedModule("CS2103T"));
+        List<JsonAdaptedTutorial> tutorials = List.of(new JsonAdaptedTutorial("CS2103T", "T01", "Mon 9PM"));
+        int referencesPerPerson = tags.size() + modules.size() + tutorials.size();
+
+        Set<Object> distinctInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < numberOfPersons; i++) {
+            Person person = new JsonAdaptedPerson("Student " + i, VALID_PHONE, VALID_EMAIL, tags, modules, tutorials,
+                    VALID_STUDENT_NUMBER, VALID_TELEGRAM).toModelType();
+            distinctInstances.addAll(person.getTags());
+            distinctInstances.addAll(person.getModules());
+            distinctInstances.addAll(person.getTutorials());
+        }
+
+        logger.info(String.format("%d module, tutorial and tag references across %d persons share %d instances",
+                numberOfPersons * referencesPerPerson, numberOfPersons, distinctInstances.size()));
+        assertEquals(referencesPerPerson, distinctInstances.size());
+    }
+
+    @Test
+    public void toModelType_sameMembershipsInTwoPersons_sameInstances() throws Exception {
+        Person first = toModelTypeWithMemberships("Student 1");
+        Person second = toModelTypeWithMemberships("Student 2");
+
+        Tag tag = first.getTags().iterator().next();
+        Module module = first.getModules().iterator().next();
+        Tutorial tutorial = first.getTutorials().iterator().next();
+        assertSame(tag, second.getTags().iterator().next());
+        assertSame(module, second.getModules().iterator().next());
+        assertSame(tutorial, second.getTutorials().iterator().next());
+        assertSame(tutorial.getTutName(), second.getTutorials().iterator().next().getTutName());
+        assertSame(module.getModuleCode(), tutorial.getModuleCode());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -133,4 +181,16 @@ public class JsonAdaptedPersonTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Telegram.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
+
+    /**
+     * Returns the person named {@code name} with a tag, module and tutorial, parsed from strings of its own so that
+     * only interning can make its values shared with other persons.
+     */
+    private static Person toModelTypeWithMemberships(String name) throws IllegalValueException {
+        return new JsonAdaptedPerson(name, VALID_PHONE, VALID_EMAIL,
+                List.of(new JsonAdaptedTag(new String("friends"))),
+                List.of(new JsonAdaptedModule(new String("CS2103T"))),
+                List.of(new JsonAdaptedTutorial(new String("CS2103T"), new String("T01"), new String("Mon 9PM"))),
+                VALID_STUDENT_NUMBER, VALID_TELEGRAM).toModelType();
+    }
 }
@@ -1,16 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.UniqueField;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,9 +26,12 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_STUDENT_NUMBER_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateStudentNumberAddressBook.json");
     private static final Path DUPLICATE_MODULE_FILE = TEST_DATA_FOLDER.resolve("duplicateModuleAddressBook.json");
     private static final Path DUPLICATE_TUTORIAL_FILE = TEST_DATA_FOLDER.resolve("duplicateTutorialAddressBook.json");
     private static final Path DUPLICATE_ATTN_TAG_FILE = TEST_DATA_FOLDER.resolve("duplicateAttnTagAddressBook.json");
+    private static final Path LEGACY_ATTN_TAG_FILE = TEST_DATA_FOLDER.resolve("legacyAttnTagAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -47,6 +57,22 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateUniqueField_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STUDENT_NUMBER_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, "The student number A0203220J is already used by Alice Pauline",
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_uniqueFields_keptInAddressBook() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.setUniqueFields(Set.of(UniqueField.STUDENT_NUMBER, UniqueField.EMAIL));
+        AddressBook addressBookFromJson = new JsonSerializableAddressBook(addressBook).toModelType();
+        assertEquals(Set.of(UniqueField.STUDENT_NUMBER, UniqueField.EMAIL), addressBookFromJson.getUniqueFields());
+    }
+
     @Test
     public void toModelType_duplicateModules_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_MODULE_FILE,
@@ -71,4 +97,22 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_legacyAttendanceTags_migratedToLedger() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(LEGACY_ATTN_TAG_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        StudentNumber alice = new StudentNumber("A0123456J");
+        assertTrue(addressBookFromFile.hasAttendance(alice, "S1"));
+        assertTrue(addressBookFromFile.hasAttendance(alice, "S2"));
+        assertFalse(addressBookFromFile.hasAttendance(new StudentNumber("A0999999X"), "S1"));
+        assertEquals(Map.of(alice, List.of("S1", "S2")), addressBookFromFile.getAttendanceRecords());
+    }
+
+    @Test
+    public void toModelType_savedAttendance_roundTrips() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBookWithAttendance();
+        AddressBook reloaded = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original.getAttendanceRecords(), reloaded.getAttendanceRecords());
+    }
 }
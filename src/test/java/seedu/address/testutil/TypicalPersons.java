@@ -19,7 +19,6 @@ import java.util.List;
 
 import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
-import seedu.address.model.tag.Tag;
 
 /**
  * A utility class containing a list of {@code Person} objects to be used in tests.
@@ -94,7 +93,7 @@ public class TypicalPersons {
         for (Person person : getTypicalPersons()) {
             ab.addPerson(person);
         }
-        ab.addAttendanceTag(new Tag("A0203220JS1"));
+        ab.markAttendance(ALICE.getStudentNumber(), "S1");
         return ab;
     }
 